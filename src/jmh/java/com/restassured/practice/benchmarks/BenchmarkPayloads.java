@@ -0,0 +1,64 @@
+package com.restassured.practice.benchmarks;
+
+import com.restassured.practice.models.Post;
+import com.restassured.practice.models.ReqResUser;
+import com.restassured.practice.models.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic payloads shared by the benchmarks, so numbers are comparable between runs
+ */
+final class BenchmarkPayloads {
+
+    private BenchmarkPayloads() {
+    }
+
+    static Post post(int id) {
+        return Post.builder()
+                .id(id)
+                .userId(id % 10 + 1)
+                .title("sunt aut facere repellat provident occaecati " + id)
+                .body("quia et suscipit suscipit recusandae consequuntur expedita et cum reprehenderit "
+                        + "molestiae ut ut quas totam nostrum rerum est autem sunt rem eveniet architecto " + id)
+                .build();
+    }
+
+    static Post[] postArray(int size) {
+        Post[] posts = new Post[size];
+        for (int i = 0; i < size; i++) {
+            posts[i] = post(i + 1);
+        }
+        return posts;
+    }
+
+    static List<Post> postList(int size) {
+        List<Post> posts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            posts.add(post(i + 1));
+        }
+        return posts;
+    }
+
+    static User user(int id) {
+        return User.builder()
+                .id(id)
+                .name("Leanne Graham")
+                .username("Bret" + id)
+                .email("sincere" + id + "@april.biz")
+                .job("QA Engineer")
+                .createdAt("2024-01-01T00:00:00.000Z")
+                .build();
+    }
+
+    static ReqResUser reqResUser(int id) {
+        return ReqResUser.builder()
+                .id(id)
+                .email("janet.weaver" + id + "@reqres.in")
+                .firstName("Janet")
+                .lastName("Weaver")
+                .avatar("https://reqres.in/img/faces/" + id + "-image.jpg")
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.restassured.practice.benchmarks;
+
+import com.restassured.practice.models.Post;
+import com.restassured.practice.utils.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtils compact vs pretty writing, reading and prettyPrint across payload sizes:
+ * a single Post, a 100-element Post[] (the /posts response) and a 5,000-element list
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUtilsBenchmark {
+
+    @Param({"1", "100", "5000"})
+    public int size;
+
+    private Object payload;
+    private String json;
+    private Class<?> type;
+
+    @Setup
+    public void setup() {
+        if (size == 1) {
+            payload = BenchmarkPayloads.post(1);
+            type = Post.class;
+        } else if (size == 100) {
+            payload = BenchmarkPayloads.postArray(size);
+            type = Post[].class;
+        } else {
+            payload = BenchmarkPayloads.postList(size);
+            type = Post[].class;
+        }
+        json = JsonUtils.toJson(payload);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(payload);
+    }
+
+    @Benchmark
+    public String toPrettyJson() {
+        return JsonUtils.toPrettyJson(payload);
+    }
+
+    @Benchmark
+    public Object fromJson() {
+        return JsonUtils.fromJson(json, type);
+    }
+
+    @Benchmark
+    public String prettyPrint() {
+        return JsonUtils.prettyPrint(json);
+    }
+}
@@ -0,0 +1,82 @@
+package com.restassured.practice.benchmarks;
+
+import com.restassured.practice.models.Post;
+import com.restassured.practice.models.ReqResUser;
+import com.restassured.practice.models.User;
+import com.restassured.practice.utils.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lombok builder construction and JSON round-trips for each model class
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelSerializationBenchmark {
+
+    private User user;
+    private Post post;
+    private ReqResUser reqResUser;
+    private String userJson;
+    private String postJson;
+    private String reqResUserJson;
+
+    @Setup
+    public void setup() {
+        user = BenchmarkPayloads.user(1);
+        post = BenchmarkPayloads.post(1);
+        reqResUser = BenchmarkPayloads.reqResUser(2);
+        userJson = JsonUtils.toJson(user);
+        postJson = JsonUtils.toJson(post);
+        reqResUserJson = JsonUtils.toJson(reqResUser);
+    }
+
+    @Benchmark
+    public User buildUser() {
+        return BenchmarkPayloads.user(1);
+    }
+
+    @Benchmark
+    public String serializeUser() {
+        return JsonUtils.toJson(user);
+    }
+
+    @Benchmark
+    public User deserializeUser() {
+        return JsonUtils.fromJson(userJson, User.class);
+    }
+
+    @Benchmark
+    public String serializePost() {
+        return JsonUtils.toJson(post);
+    }
+
+    @Benchmark
+    public Post deserializePost() {
+        return JsonUtils.fromJson(postJson, Post.class);
+    }
+
+    @Benchmark
+    public String serializeReqResUser() {
+        return JsonUtils.toJson(reqResUser);
+    }
+
+    @Benchmark
+    public ReqResUser deserializeReqResUser() {
+        return JsonUtils.fromJson(reqResUserJson, ReqResUser.class);
+    }
+}
@@ -0,0 +1,60 @@
+package com.restassured.practice.benchmarks;
+
+import com.restassured.practice.utils.JsonUtils;
+import com.restassured.practice.utils.SchemaRegistry;
+import io.restassured.module.jsv.JsonSchemaValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-validation cost of REST Assured's matchesJsonSchemaInClasspath
+ * (reload and recompile every call) versus the SchemaRegistry cache,
+ * for a single post and the 100-element /posts payload
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaValidationBenchmark {
+
+    private String postJson;
+    private String postsJson;
+
+    @Setup
+    public void setup() {
+        postJson = JsonUtils.toJson(BenchmarkPayloads.post(1));
+        postsJson = JsonUtils.toJson(BenchmarkPayloads.postArray(100));
+    }
+
+    @Benchmark
+    public boolean singlePostRestAssured() {
+        return JsonSchemaValidator.matchesJsonSchemaInClasspath("schemas/post-schema.json").matches(postJson);
+    }
+
+    @Benchmark
+    public boolean singlePostCached() {
+        return SchemaRegistry.matchesJsonSchemaInClasspath("schemas/post-schema.json").matches(postJson);
+    }
+
+    @Benchmark
+    public boolean postsArrayRestAssured() {
+        return JsonSchemaValidator.matchesJsonSchemaInClasspath("schemas/posts-schema.json").matches(postsJson);
+    }
+
+    @Benchmark
+    public boolean postsArrayCached() {
+        return SchemaRegistry.matchesJsonSchemaInClasspath("schemas/posts-schema.json").matches(postsJson);
+    }
+}
@@ -0,0 +1,77 @@
+package com.restassured.practice.benchmarks;
+
+import com.restassured.practice.utils.ApiConfig;
+import com.restassured.practice.utils.SpecRegistry;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Cost of obtaining a spec per call: building it from scratch (the old
+ * ApiConfig behaviour) versus a SpecRegistry lookup versus deriving a
+ * per-test override from the cached spec. Run with -prof gc to compare
+ * allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecRegistryBenchmark {
+
+    private static final String BASE_URI = "https://jsonplaceholder.typicode.com";
+
+    @Benchmark
+    public RequestSpecification requestSpecFreshBuild() {
+        return new RequestSpecBuilder()
+                .setBaseUri(BASE_URI)
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .log(LogDetail.ALL)
+                .build();
+    }
+
+    @Benchmark
+    public RequestSpecification requestSpecCached() {
+        return ApiConfig.getDefaultRequestSpec(BASE_URI);
+    }
+
+    @Benchmark
+    public RequestSpecification requestSpecDerivedOverride() {
+        return SpecRegistry.derive(ApiConfig.getDefaultRequestSpec(BASE_URI))
+                .addHeader("X-Request-Id", "bench")
+                .build();
+    }
+
+    @Benchmark
+    public ResponseSpecification responseSpecFreshBuild() {
+        return new ResponseSpecBuilder()
+                .expectStatusCode(200)
+                .expectResponseTime(lessThan(3000L))
+                .expectContentType(ContentType.JSON)
+                .log(LogDetail.ALL)
+                .build();
+    }
+
+    @Benchmark
+    public ResponseSpecification responseSpecCached() {
+        return ApiConfig.getSuccessResponseSpec();
+    }
+}
@@ -0,0 +1,96 @@
+package com.restassured.practice.benchmarks;
+
+import com.restassured.practice.models.Post;
+import com.restassured.practice.models.User;
+import com.restassured.practice.utils.TestDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestDataGenerator versus the previous implementation (one shared Random
+ * plus UUID.randomUUID, which draws from SecureRandom), single-threaded and
+ * with four threads generating at once to show contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestDataGeneratorBenchmark {
+
+    private static final Random sharedRandom = new Random();
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Alice", "Bob", "Charlie", "Diana", "Eve", "Frank"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis"};
+    private static final String[] DOMAINS = {"example.com", "test.com", "demo.com", "sample.com"};
+
+    @Benchmark
+    public User userLegacy() {
+        return legacyUser();
+    }
+
+    @Benchmark
+    public User userThreadLocal() {
+        return TestDataGenerator.generateRandomUser();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public User userLegacyContended() {
+        return legacyUser();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public User userThreadLocalContended() {
+        return TestDataGenerator.generateRandomUser();
+    }
+
+    @Benchmark
+    public Post postLegacy() {
+        return Post.builder()
+                .title("Test Post " + UUID.randomUUID().toString().substring(0, 8))
+                .body("This is a test post body with random content: " + UUID.randomUUID().toString())
+                .userId(sharedRandom.nextInt(10) + 1)
+                .build();
+    }
+
+    @Benchmark
+    public Post postThreadLocal() {
+        return TestDataGenerator.generateRandomPost();
+    }
+
+    @Benchmark
+    public String uniqueIdUuid() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Benchmark
+    public String uniqueIdThreadLocal() {
+        return TestDataGenerator.generateUniqueId();
+    }
+
+    private static User legacyUser() {
+        String firstName = FIRST_NAMES[sharedRandom.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[sharedRandom.nextInt(LAST_NAMES.length)];
+        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+        return User.builder()
+                .name(firstName + " " + lastName)
+                .username(firstName.toLowerCase() + uniqueId)
+                .email(firstName.toLowerCase() + "." + lastName.toLowerCase() + uniqueId + "@"
+                        + DOMAINS[sharedRandom.nextInt(DOMAINS.length)])
+                .build();
+    }
+}
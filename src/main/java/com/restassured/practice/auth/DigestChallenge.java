@@ -0,0 +1,124 @@
+package com.restassured.practice.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A digest challenge (RFC 7616) from a WWW-Authenticate header, kept so that
+ * later requests can answer it without another 401 round-trip. Each response
+ * computed from it uses the next nonce count, so one instance can be shared by
+ * parallel requests. Supports MD5 and SHA-256 with qop "auth" or no qop.
+ */
+public final class DigestChallenge {
+
+    private final String realm;
+    private final String nonce;
+    private final String opaque;
+    private final String algorithm;
+    private final boolean qopAuth;
+    private final AtomicLong nonceCount = new AtomicLong();
+
+    private DigestChallenge(String realm, String nonce, String opaque, String algorithm, boolean qopAuth) {
+        this.realm = realm;
+        this.nonce = nonce;
+        this.opaque = opaque;
+        this.algorithm = algorithm;
+        this.qopAuth = qopAuth;
+    }
+
+    /**
+     * Parse a "Digest ..." WWW-Authenticate value, or return null if it is not a
+     * digest challenge this class can answer
+     */
+    public static DigestChallenge parse(String wwwAuthenticate) {
+        if (wwwAuthenticate == null || !wwwAuthenticate.regionMatches(true, 0, "Digest ", 0, 7)) {
+            return null;
+        }
+        Map<String, String> params = parseParams(wwwAuthenticate.substring(7));
+        String algorithm = params.getOrDefault("algorithm", "MD5").toUpperCase(Locale.ROOT);
+        String qop = params.get("qop");
+        boolean qopAuth = qop != null && qop.matches("(?i).*\\bauth\\b(?!-).*");
+        if (params.get("nonce") == null || !("MD5".equals(algorithm) || "SHA-256".equals(algorithm))
+                || (qop != null && !qopAuth)) {
+            return null;
+        }
+        return new DigestChallenge(params.getOrDefault("realm", ""), params.get("nonce"), params.get("opaque"),
+                algorithm, qopAuth);
+    }
+
+    /**
+     * Authorization header value for one request; uri is the request path and query
+     */
+    public String authorization(String username, String password, String method, String uri) {
+        String ha1 = hash(username + ":" + realm + ":" + password);
+        String ha2 = hash(method + ":" + uri);
+        StringBuilder header = new StringBuilder("Digest username=\"").append(username)
+                .append("\", realm=\"").append(realm)
+                .append("\", nonce=\"").append(nonce)
+                .append("\", uri=\"").append(uri)
+                .append("\", algorithm=").append(algorithm);
+        String response;
+        if (qopAuth) {
+            String nc = String.format("%08x", nonceCount.incrementAndGet());
+            String cnonce = Long.toHexString(ThreadLocalRandom.current().nextLong());
+            response = hash(ha1 + ":" + nonce + ":" + nc + ":" + cnonce + ":auth:" + ha2);
+            header.append(", qop=auth, nc=").append(nc).append(", cnonce=\"").append(cnonce).append('"');
+        } else {
+            response = hash(ha1 + ":" + nonce + ":" + ha2);
+        }
+        header.append(", response=\"").append(response).append('"');
+        if (opaque != null) {
+            header.append(", opaque=\"").append(opaque).append('"');
+        }
+        return header.toString();
+    }
+
+    public String getRealm() {
+        return realm;
+    }
+
+    public String getNonce() {
+        return nonce;
+    }
+
+    /**
+     * Responses computed so far for this nonce
+     */
+    public long getNonceCount() {
+        return nonceCount.get();
+    }
+
+    private String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance(algorithm).digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(algorithm + " not available", e);
+        }
+    }
+
+    private static Map<String, String> parseParams(String header) {
+        Map<String, String> params = new LinkedHashMap<>();
+        for (String token : header.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)")) {
+            int eq = token.indexOf('=');
+            if (eq > 0) {
+                String value = token.substring(eq + 1).trim();
+                if (value.startsWith("\"") && value.endsWith("\"") && value.length() >= 2) {
+                    value = value.substring(1, value.length() - 1);
+                }
+                params.put(token.substring(0, eq).trim().toLowerCase(Locale.ROOT), value);
+            }
+        }
+        return params;
+    }
+}
@@ -0,0 +1,63 @@
+package com.restassured.practice.auth;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * An access token and the window in which it is valid
+ */
+public final class Token {
+
+    private final String value;
+    private final Instant acquiredAt;
+    private final Instant expiresAt;
+
+    public Token(String value, Instant acquiredAt, Instant expiresAt) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Token value must not be empty");
+        }
+        this.value = value;
+        this.acquiredAt = acquiredAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Token acquired now that expires after ttl
+     */
+    public static Token of(String value, Duration ttl) {
+        Instant now = Instant.now();
+        return new Token(value, now, now.plus(ttl));
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public Instant getAcquiredAt() {
+        return acquiredAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * True once now is within refreshAhead of expiry, capped at half the token's lifetime
+     * so short-lived tokens are not refreshed on every use
+     */
+    public boolean isDueForRefresh(Duration refreshAhead, Instant now) {
+        Duration halfLife = Duration.between(acquiredAt, expiresAt).dividedBy(2);
+        Duration ahead = refreshAhead.compareTo(halfLife) < 0 ? refreshAhead : halfLife;
+        return !now.isBefore(expiresAt.minus(ahead));
+    }
+
+    @Override
+    public String toString() {
+        String masked = value.length() <= 4 ? "****" : value.substring(0, 4) + "****";
+        return "Token{" + masked + ", expires " + expiresAt + "}";
+    }
+}
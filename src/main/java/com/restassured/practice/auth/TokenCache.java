@@ -0,0 +1,171 @@
+package com.restassured.practice.auth;
+
+import com.restassured.practice.utils.ConfigReader;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tokens cached per credential key, so a suite logs in once per credential
+ * instead of once per test.
+ *
+ * Acquisition is single-flight: when many parallel tests need the same missing
+ * or expired token, one of them calls the TokenProvider and the rest wait for
+ * its result. A token that is still valid but close to expiry (see
+ * -Dapi.auth.refresh.ahead.seconds) is returned immediately while a background
+ * thread fetches its replacement, so requests never block on a refresh.
+ */
+public final class TokenCache {
+
+    private static final TokenCache SHARED = new TokenCache(
+            Duration.ofSeconds(ConfigReader.getAuthRefreshAheadSeconds()));
+    private static final ExecutorService REFRESHER = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "token-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Duration refreshAhead;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder acquisitions = new LongAdder();
+
+    public TokenCache(Duration refreshAhead) {
+        this.refreshAhead = refreshAhead;
+    }
+
+    public static TokenCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Valid token for credentialKey, acquired through provider if none is cached
+     */
+    public Token get(String credentialKey, TokenProvider provider) {
+        return entries.computeIfAbsent(credentialKey, Entry::new).get(provider);
+    }
+
+    /**
+     * Drop the cached token, e.g. after the server rejected it; the next get acquires a new one
+     */
+    public void invalidate(String credentialKey) {
+        Entry entry = entries.get(credentialKey);
+        if (entry != null) {
+            entry.token = null;
+        }
+    }
+
+    /**
+     * Drop the cached token only if it is still the rejected one, so a token
+     * refreshed meanwhile by another thread is kept
+     */
+    public void invalidate(String credentialKey, Token rejected) {
+        Entry entry = entries.get(credentialKey);
+        if (entry != null) {
+            synchronized (entry) {
+                if (entry.token == rejected) {
+                    entry.token = null;
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Requests served from a cached token
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Tokens fetched from providers, including background refreshes
+     */
+    public long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+    private final class Entry {
+
+        private final String key;
+        private volatile Token token;
+        private CompletableFuture<Token> inFlight;
+
+        private Entry(String key) {
+            this.key = key;
+        }
+
+        private Token get(TokenProvider provider) {
+            Token current = token;
+            Instant now = Instant.now();
+            if (current != null && !current.isExpired(now)) {
+                if (current.isDueForRefresh(refreshAhead, now)) {
+                    refresh(provider, true);
+                }
+                hits.increment();
+                return current;
+            }
+            try {
+                return refresh(provider, false).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException("Could not acquire token for " + key, cause);
+            }
+        }
+
+        /**
+         * Join the acquisition in flight for this key or start one, on the
+         * calling thread or in the background
+         */
+        private CompletableFuture<Token> refresh(TokenProvider provider, boolean background) {
+            CompletableFuture<Token> flight;
+            synchronized (this) {
+                if (inFlight != null) {
+                    return inFlight;
+                }
+                Token current = token;
+                if (!background && current != null && !current.isExpired(Instant.now())) {
+                    // Another thread finished acquiring while this one was checking
+                    return CompletableFuture.completedFuture(current);
+                }
+                flight = new CompletableFuture<>();
+                inFlight = flight;
+            }
+            if (background) {
+                REFRESHER.execute(() -> acquire(provider, flight));
+            } else {
+                acquire(provider, flight);
+            }
+            return flight;
+        }
+
+        private void acquire(TokenProvider provider, CompletableFuture<Token> flight) {
+            try {
+                Token acquired = provider.acquire();
+                token = acquired;
+                acquisitions.increment();
+                flight.complete(acquired);
+            } catch (Exception e) {
+                // A failed background refresh leaves the current token in use until it expires
+                flight.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    inFlight = null;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.restassured.practice.auth;
+
+import com.restassured.practice.utils.ApiConfig;
+import com.restassured.practice.utils.ConfigReader;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+
+/**
+ * Acquires a new token for one credential, e.g. by calling a login endpoint.
+ * Called by TokenCache at most once at a time per credential.
+ */
+@FunctionalInterface
+public interface TokenProvider {
+
+    Token acquire() throws Exception;
+
+    /**
+     * POST credentials as JSON to baseUri + path and read the token at tokenPath.
+     * The lifetime comes from "expires_in" (seconds) in the response if present,
+     * otherwise from -Dapi.auth.token.ttl.seconds.
+     */
+    static TokenProvider login(String baseUri, String path, Object credentials, String tokenPath) {
+        return () -> {
+            Response response = RestAssured.given()
+                    .baseUri(baseUri)
+                    .config(ApiConfig.getRestAssuredConfig(baseUri))
+                    .filters(ApiConfig.getDefaultFilters())
+                    .contentType(ContentType.JSON)
+                    .body(credentials)
+                    .post(path);
+            if (response.getStatusCode() != 200) {
+                throw new IllegalStateException("Login to " + baseUri + path + " failed with status "
+                        + response.getStatusCode() + ": " + response.asString());
+            }
+            String token = response.path(tokenPath);
+            if (token == null) {
+                throw new IllegalStateException("Login response from " + baseUri + path + " has no " + tokenPath);
+            }
+            Number expiresIn = response.path("expires_in");
+            long ttlSeconds = expiresIn != null ? expiresIn.longValue() : ConfigReader.getAuthTokenTtlSeconds();
+            return Token.of(token, Duration.ofSeconds(ttlSeconds));
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.restassured.practice.filters;
+
+import com.restassured.practice.utils.ConfigReader;
+import com.restassured.practice.utils.JsonUtils;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renders captured exchanges on a single background thread.
+ * The queue is bounded and submit() never blocks: when the writer falls
+ * behind, records are dropped and counted rather than stalling requests.
+ */
+public class AsyncLogWriter {
+
+    private static AsyncLogWriter shared;
+
+    private final BlockingQueue<ExchangeRecord> queue;
+    private final PrintStream out;
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long written;
+    private long reportedDropped;
+
+    public AsyncLogWriter(int capacity, PrintStream out) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.out = out;
+        Thread thread = new Thread(this::drain, "api-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * JVM-wide writer to System.out, sized by -Dapi.log.queue.capacity and flushed on shutdown
+     */
+    public static synchronized AsyncLogWriter shared() {
+        if (shared == null) {
+            AsyncLogWriter writer = new AsyncLogWriter(ConfigReader.getLogQueueCapacity(), System.out);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> writer.flush(2000), "api-log-flush"));
+            shared = writer;
+        }
+        return shared;
+    }
+
+    /**
+     * Queue a record for rendering; returns false if it was dropped because the queue is full
+     */
+    boolean submit(ExchangeRecord record) {
+        if (queue.offer(record)) {
+            accepted.incrementAndGet();
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Wait until everything queued so far has been written, or the timeout expires
+     */
+    public void flush(long timeoutMillis) {
+        long target = accepted.get();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (written < target && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    private void drain() {
+        List<ExchangeRecord> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+            StringBuilder sb = new StringBuilder();
+            for (ExchangeRecord record : batch) {
+                render(record, sb);
+            }
+            long droppedNow = dropped.get();
+            if (droppedNow > reportedDropped) {
+                sb.append("[api-log] ").append(droppedNow - reportedDropped)
+                        .append(" exchange(s) dropped, log queue full\n");
+                reportedDropped = droppedNow;
+            }
+            out.print(sb);
+            out.flush();
+            written += batch.size();
+            batch.clear();
+        }
+    }
+
+    private static void render(ExchangeRecord record, StringBuilder sb) {
+        sb.append("[").append(record.thread).append("] ")
+                .append(record.method).append(' ').append(record.uri)
+                .append(" (").append(record.timeMillis).append(" ms)\n");
+        appendHeaders(record.requestHeaders, sb);
+        if (record.requestBody != null) {
+            sb.append("Body:\n").append(record.requestBody).append('\n');
+        }
+        sb.append('\n').append(record.statusLine).append('\n');
+        appendHeaders(record.responseHeaders, sb);
+        if (record.responseBody.length > 0) {
+            String body = new String(record.responseBody, StandardCharsets.UTF_8);
+            if (!record.responseTruncated && record.responseContentType != null
+                    && record.responseContentType.contains("json")) {
+                try {
+                    body = JsonUtils.prettyPrint(body);
+                } catch (RuntimeException e) {
+                    // Not valid JSON after all; log it as-is
+                }
+            }
+            sb.append('\n').append(body);
+            if (record.responseTruncated) {
+                sb.append("\n... (truncated)");
+            }
+            sb.append('\n');
+        }
+        sb.append('\n');
+    }
+
+    private static void appendHeaders(Headers headers, StringBuilder sb) {
+        for (Header header : headers) {
+            sb.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.restassured.practice.filters;
+
+import com.restassured.practice.auth.Token;
+import com.restassured.practice.auth.TokenCache;
+import com.restassured.practice.auth.TokenProvider;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Adds "Authorization: Bearer ..." from a TokenCache to every request, so the
+ * token is acquired once per credential rather than once per test. A request
+ * that already has an Authorization header is left alone. A 401 response
+ * invalidates the cached token, so the next request acquires a new one.
+ */
+public class BearerTokenFilter implements OrderedFilter {
+
+    private final TokenCache cache;
+    private final String credentialKey;
+    private final TokenProvider provider;
+
+    public BearerTokenFilter(String credentialKey, TokenProvider provider) {
+        this(TokenCache.shared(), credentialKey, provider);
+    }
+
+    public BearerTokenFilter(TokenCache cache, String credentialKey, TokenProvider provider) {
+        this.cache = cache;
+        this.credentialKey = credentialKey;
+        this.provider = provider;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (requestSpec.getHeaders().hasHeaderWithName("Authorization")) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        Token token = cache.get(credentialKey, provider);
+        requestSpec.header("Authorization", "Bearer " + token.getValue());
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.getStatusCode() == 401) {
+            cache.invalidate(credentialKey, token);
+        }
+        return response;
+    }
+
+    /**
+     * Run first so logging and metrics filters see the final request
+     */
+    @Override
+    public int getOrder() {
+        return OrderedFilter.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,158 @@
+package com.restassured.practice.filters;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hands pooled connections back to the pool without buffering bodies up front.
+ *
+ * REST Assured only consumes the body when a test touches it, and with
+ * pooled connections (ConnectionPools) an unread body keeps its connection
+ * leased, so tests that check nothing but the status code would drain the
+ * pool. This filter leaves the body as a stream and remembers the response on
+ * the current thread. Before the thread's next request, and when the test
+ * method ends (ConnectionReleaseListener), each remembered body that nobody
+ * has started reading is read into its response: the connection goes back to
+ * the pool and the body is still there for the test. A body the test has
+ * started reading, e.g. through asInputStream() for a streaming parser, is
+ * never buffered; it is closed when the test ends if the test did not.
+ *
+ * Register it before MetricsFilter and LatencyFilter (same order, ties keep
+ * registration order), so the stream it tracks is the one the test sees.
+ */
+public class ConnectionReleaseFilter implements OrderedFilter {
+
+    private static final ConnectionReleaseFilter SHARED = new ConnectionReleaseFilter();
+    private static final ThreadLocal<List<TrackedBody>> PENDING = ThreadLocal.withInitial(ArrayList::new);
+
+    public static ConnectionReleaseFilter shared() {
+        return SHARED;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        bufferUnread();
+        Response response = ctx.next(requestSpec, responseSpec);
+        TrackedBody body = new TrackedBody(response.asInputStream());
+        Response tracked = new ResponseBuilder().clone(response).setBody(body).build();
+        body.response = tracked;
+        PENDING.get().add(body);
+        return tracked;
+    }
+
+    /**
+     * Read every body on this thread that nobody has started reading, releasing its connection
+     */
+    public static void bufferUnread() {
+        Iterator<TrackedBody> pending = PENDING.get().iterator();
+        while (pending.hasNext()) {
+            TrackedBody body = pending.next();
+            if (body.done) {
+                pending.remove();
+            } else if (!body.touched) {
+                body.buffer();
+                pending.remove();
+            }
+        }
+    }
+
+    /**
+     * End of a test (or of a task running one): buffer unread bodies and close
+     * those still being streamed, so no connection stays leased by this thread
+     */
+    public static void releaseAll() {
+        List<TrackedBody> pending = PENDING.get();
+        for (TrackedBody body : pending) {
+            if (body.done) {
+                continue;
+            }
+            if (body.touched) {
+                body.closeQuietly();
+            } else {
+                body.buffer();
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * Run after the other filters (ties keep registration order) so the response it
+     * tracks is the one handed back to the test
+     */
+    @Override
+    public int getOrder() {
+        return OrderedFilter.LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * Response body that notes whether anyone has read it yet and whether it is finished
+     */
+    private static final class TrackedBody extends FilterInputStream {
+
+        private Response response;
+        private volatile boolean touched;
+        private volatile boolean done;
+
+        TrackedBody(InputStream body) {
+            super(body);
+        }
+
+        @Override
+        public int read() throws IOException {
+            touched = true;
+            int b = super.read();
+            done |= b < 0;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            touched = true;
+            int n = super.read(buffer, offset, length);
+            done |= n < 0;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            touched = true;
+            return super.skip(n);
+        }
+
+        @Override
+        public void close() throws IOException {
+            done = true;
+            super.close();
+        }
+
+        void buffer() {
+            try {
+                response.asByteArray();
+            } catch (RuntimeException e) {
+                // Connection already broken; the test sees the error if it reads this body
+                closeQuietly();
+            }
+        }
+
+        void closeQuietly() {
+            try {
+                close();
+            } catch (IOException ignored) {
+                // Releasing only
+            }
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.restassured.practice.filters;
+
+import groovy.lang.GroovyObject;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Cookie;
+import io.restassured.http.Cookies;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.spi.AuthFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Session cookie jar: captures Set-Cookie from every response and sends the
+ * matching cookies (by domain, path and expiry) with later requests, so
+ * session-based flows log in once instead of once per test.
+ *
+ * The jar is a java.net.CookieManager, whose store is safe for concurrent use.
+ * named(...) returns a jar shared by every thread that asks for that name;
+ * perThread() gives each thread its own session; new CookieJarFilter() is a
+ * private jar. Cookies set explicitly on a request win over cookies from the jar.
+ *
+ * Services often set cookies on a redirect (httpbin's /cookies/set answers
+ * 302 to /cookies). HttpClient would follow it internally and only the final
+ * response would reach this filter, so the filter follows redirects itself:
+ * it turns off REST Assured's redirect handling for the request and follows
+ * the redirects HttpClient would (301/302/307/308 for GET and HEAD, 303 for
+ * any method, each hop as GET or, for HEAD, as HEAD), sending the jar's
+ * cookies and storing Set-Cookie from every hop. Other redirects are returned
+ * unchanged. Headers and explicit cookies are carried over only while the
+ * redirect stays on the same host. given().redirects().follow(...) and
+ * max(...), or the RedirectConfig, still decide whether and how far to follow.
+ *
+ * Each hop is sent through the request's other filters, so logging, metrics,
+ * latency, connection release and the response cache see every hop,
+ * including the final response handed back to the test. Auth filters are
+ * left out of hops to another host, so credentials never leave the original
+ * one.
+ */
+public class CookieJarFilter implements OrderedFilter {
+
+    // HttpClient parameters (ClientPNames) set by given().redirects()
+    private static final String HANDLE_REDIRECTS_PARAM = "http.protocol.handle-redirects";
+    private static final String MAX_REDIRECTS_PARAM = "http.protocol.max-redirects";
+
+    private static final Map<String, CookieJarFilter> NAMED = new ConcurrentHashMap<>();
+
+    private final Supplier<CookieManager> jar;
+
+    public CookieJarFilter() {
+        CookieManager manager = newCookieManager();
+        this.jar = () -> manager;
+    }
+
+    private CookieJarFilter(Supplier<CookieManager> jar) {
+        this.jar = jar;
+    }
+
+    /**
+     * Jar shared by all threads under this session name
+     */
+    public static CookieJarFilter named(String session) {
+        return NAMED.computeIfAbsent(session, key -> new CookieJarFilter());
+    }
+
+    /**
+     * Jar with an isolated session per thread
+     */
+    public static CookieJarFilter perThread() {
+        ThreadLocal<CookieManager> managers = ThreadLocal.withInitial(CookieJarFilter::newCookieManager);
+        return new CookieJarFilter(managers::get);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        CookieManager manager = jar.get();
+        URI uri = URI.create(requestSpec.getURI());
+        Cookies explicit = requestSpec.getCookies();
+        for (HttpCookie cookie : manager.getCookieStore().get(uri)) {
+            if (!explicit.hasCookieWithName(cookie.getName())) {
+                requestSpec.cookie(cookie.getName(), cookie.getValue());
+            }
+        }
+        boolean follow = followsRedirects(requestSpec);
+        int maxRedirects = maxRedirects(requestSpec);
+        if (follow) {
+            requestSpec.redirects().follow(false);
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        store(manager, uri, response);
+        if (!follow) {
+            return response;
+        }
+        String method = requestSpec.getMethod();
+        for (int hop = 0; ; hop++) {
+            String location = response.getHeader("Location");
+            if (location == null || !isFollowed(response.getStatusCode(), method)) {
+                return response;
+            }
+            if (hop == maxRedirects) {
+                response.asByteArray(); // release the connection before giving up
+                throw new IllegalStateException("More than " + maxRedirects + " redirects from "
+                        + requestSpec.getURI());
+            }
+            response.asByteArray(); // release the hop's connection
+            URI target = uri.resolve(location);
+            boolean sameOrigin = sameOrigin(uri, target);
+            RequestSpecification next = RestAssured.given()
+                    .config(requestSpec.getConfig())
+                    .filters(hopFilters(requestSpec.getDefinedFilters(), sameOrigin))
+                    .redirects().follow(false)
+                    .urlEncodingEnabled(false);
+            if (sameOrigin) {
+                next.headers(requestSpec.getHeaders());
+            }
+            Set<String> sent = new HashSet<>();
+            for (HttpCookie cookie : manager.getCookieStore().get(target)) {
+                next.cookie(cookie.getName(), cookie.getValue());
+                sent.add(cookie.getName());
+            }
+            if (sameOrigin) {
+                for (Cookie cookie : explicit) {
+                    if (sent.add(cookie.getName())) {
+                        next.cookie(cookie.getName(), cookie.getValue());
+                    }
+                }
+            }
+            method = "HEAD".equalsIgnoreCase(method) ? "HEAD" : "GET";
+            response = next.request(method, target);
+            store(manager, target, response);
+            uri = target;
+        }
+    }
+
+    /**
+     * Cookies the jar would send to uri (for the calling thread's session if perThread())
+     */
+    public List<HttpCookie> getCookies(String uri) {
+        return jar.get().getCookieStore().get(URI.create(uri));
+    }
+
+    /**
+     * Value of the named cookie the jar would send to uri, or null
+     */
+    public String getCookie(String uri, String name) {
+        for (HttpCookie cookie : getCookies(uri)) {
+            if (cookie.getName().equals(name)) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Forget all cookies (of the calling thread's session if perThread())
+     */
+    public void clear() {
+        jar.get().getCookieStore().removeAll();
+    }
+
+    /**
+     * Run before logging and metrics filters so they see the cookies sent
+     */
+    @Override
+    public int getOrder() {
+        return OrderedFilter.HIGHEST_PRECEDENCE;
+    }
+
+    private static void store(CookieManager manager, URI uri, Response response) {
+        List<String> setCookies = response.getHeaders().getValues("Set-Cookie");
+        if (!setCookies.isEmpty()) {
+            try {
+                manager.put(uri, Collections.singletonMap("Set-Cookie", setCookies));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not store cookies from " + uri, e);
+            }
+        }
+    }
+
+    /**
+     * given().redirects().follow(...) overrides the RedirectConfig
+     */
+    private static boolean followsRedirects(FilterableRequestSpecification requestSpec) {
+        Object follow = redirectParam(requestSpec, HANDLE_REDIRECTS_PARAM);
+        return follow == null ? requestSpec.getConfig().getRedirectConfig().followsRedirects()
+                : Boolean.parseBoolean(follow.toString());
+    }
+
+    /**
+     * given().redirects().max(...) overrides the RedirectConfig
+     */
+    private static int maxRedirects(FilterableRequestSpecification requestSpec) {
+        Object max = redirectParam(requestSpec, MAX_REDIRECTS_PARAM);
+        return max == null ? requestSpec.getConfig().getRedirectConfig().maxRedirects()
+                : Integer.parseInt(max.toString());
+    }
+
+    /**
+     * RedirectSpecification stores follow(...) and max(...) as HttpClient parameters in the
+     * request's httpClientParams, which only REST Assured's Groovy implementation exposes
+     */
+    private static Object redirectParam(FilterableRequestSpecification requestSpec, String name) {
+        if (!(requestSpec instanceof GroovyObject)) {
+            return null;
+        }
+        Object params = ((GroovyObject) requestSpec).getProperty("httpClientParams");
+        return params instanceof Map ? ((Map<?, ?>) params).get(name) : null;
+    }
+
+    /**
+     * Redirects HttpClient 4.5 follows (DefaultRedirectStrategy): 303 for any method,
+     * 301/302/307/308 only for GET and HEAD
+     */
+    private static boolean isFollowed(int status, String method) {
+        switch (status) {
+            case 303:
+                return true;
+            case 301:
+            case 302:
+            case 307:
+            case 308:
+                return "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * The request's filters for a redirect hop: all but this jar, which follows the hops
+     * itself, REST Assured's own filters (getDefinedFilters() also returns its internal
+     * SendRequestFilter, TimingFilter and CsrfFilter; the hop's given() adds its own), and,
+     * for another host, the auth filters
+     */
+    private List<Filter> hopFilters(List<Filter> defined, boolean sameOrigin) {
+        List<Filter> filters = new ArrayList<>();
+        for (Filter filter : defined) {
+            String type = filter.getClass().getName();
+            boolean internal = type.startsWith("io.restassured.internal.")
+                    || type.startsWith("io.restassured.filter.time.");
+            boolean auth = filter instanceof AuthFilter || filter instanceof PreemptiveAuthFilter
+                    || filter instanceof BearerTokenFilter;
+            if (filter != this && !internal && (sameOrigin || !auth)) {
+                filters.add(filter);
+            }
+        }
+        return filters;
+    }
+
+    private static boolean sameOrigin(URI from, URI to) {
+        return Objects.equals(from.getScheme(), to.getScheme()) && Objects.equals(from.getAuthority(), to.getAuthority());
+    }
+
+    private static CookieManager newCookieManager() {
+        return new CookieManager(null, CookiePolicy.ACCEPT_ORIGINAL_SERVER);
+    }
+}
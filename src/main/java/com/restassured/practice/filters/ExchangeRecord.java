@@ -0,0 +1,38 @@
+package com.restassured.practice.filters;
+
+import io.restassured.http.Headers;
+
+/**
+ * Raw request/response data captured on the request thread.
+ * Rendering (header formatting, JSON pretty printing) happens later on the log writer thread.
+ */
+final class ExchangeRecord {
+
+    final String method;
+    final String uri;
+    final Headers requestHeaders;
+    final String requestBody;
+    final String statusLine;
+    final Headers responseHeaders;
+    final String responseContentType;
+    final byte[] responseBody;
+    final boolean responseTruncated;
+    final long timeMillis;
+    final String thread;
+
+    ExchangeRecord(String method, String uri, Headers requestHeaders, String requestBody,
+                   String statusLine, Headers responseHeaders, String responseContentType,
+                   byte[] responseBody, boolean responseTruncated, long timeMillis) {
+        this.method = method;
+        this.uri = uri;
+        this.requestHeaders = requestHeaders;
+        this.requestBody = requestBody;
+        this.statusLine = statusLine;
+        this.responseHeaders = responseHeaders;
+        this.responseContentType = responseContentType;
+        this.responseBody = responseBody;
+        this.responseTruncated = responseTruncated;
+        this.timeMillis = timeMillis;
+        this.thread = Thread.currentThread().getName();
+    }
+}
@@ -0,0 +1,49 @@
+package com.restassured.practice.filters;
+
+import com.restassured.practice.metrics.LatencyRecorder;
+import com.restassured.practice.metrics.RouteTemplates;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Records the time of every request into LatencyRecorder, keyed by method and
+ * route template (e.g. "GET /posts/{id}", see RouteTemplates), so percentiles
+ * are per endpoint rather than per concrete URL.
+ */
+public class LatencyFilter implements OrderedFilter {
+
+    private static final LatencyFilter SHARED = new LatencyFilter(LatencyRecorder.shared());
+
+    private final LatencyRecorder recorder;
+
+    public LatencyFilter(LatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    public static LatencyFilter shared() {
+        return SHARED;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        recorder.record(RouteTemplates.endpoint(requestSpec.getMethod(), requestSpec.getUserDefinedPath()),
+                (System.nanoTime() - start) / 1_000);
+        return response;
+    }
+
+    /**
+     * Run after the other filters (ties keep registration order, so register
+     * it after LoggingFilter) so time spent in them is not counted
+     */
+    @Override
+    public int getOrder() {
+        return OrderedFilter.LOWEST_PRECEDENCE;
+    }
+}
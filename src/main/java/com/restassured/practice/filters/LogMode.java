@@ -0,0 +1,30 @@
+package com.restassured.practice.filters;
+
+import com.restassured.practice.utils.ConfigReader;
+
+/**
+ * How much request/response traffic LoggingFilter writes out
+ */
+public enum LogMode {
+    /** Nothing is captured */
+    OFF,
+    /** Exchanges are buffered per thread and only written when the test fails */
+    FAILURE,
+    /** A random fraction of exchanges (api.log.sample.rate) is written */
+    SAMPLED,
+    /** Every exchange is written */
+    FULL;
+
+    /**
+     * Mode selected with -Dapi.log, falling back to FAILURE for unknown values
+     */
+    public static LogMode fromConfig() {
+        String mode = ConfigReader.getLogMode();
+        for (LogMode value : values()) {
+            if (value.name().equalsIgnoreCase(mode)) {
+                return value;
+            }
+        }
+        return FAILURE;
+    }
+}
@@ -0,0 +1,141 @@
+package com.restassured.practice.filters;
+
+import com.restassured.practice.utils.ConfigReader;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Request/response logging driven by LogMode, replacing LogDetail.ALL on the shared specs.
+ *
+ * The request thread only copies raw data (bodies capped at api.log.max.body);
+ * formatting and console output happen on the AsyncLogWriter thread. In FAILURE
+ * mode the last exchanges of each thread are kept until FailureLogListener
+ * publishes them for a failed test or discards them for a passing one.
+ */
+public class LoggingFilter implements OrderedFilter {
+
+    private static final int FAILURE_BUFFER_SIZE = 16;
+    private static final ThreadLocal<Deque<ExchangeRecord>> FAILURE_BUFFER =
+            ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static LoggingFilter configured;
+
+    private final LogMode mode;
+    private final double sampleRate;
+    private final int maxBody;
+    private final AsyncLogWriter writer;
+
+    public LoggingFilter(LogMode mode, double sampleRate, int maxBody, AsyncLogWriter writer) {
+        this.mode = mode;
+        this.sampleRate = sampleRate;
+        this.maxBody = maxBody;
+        this.writer = writer;
+    }
+
+    /**
+     * Filter configured from -Dapi.log, -Dapi.log.sample.rate and -Dapi.log.max.body
+     */
+    public static synchronized LoggingFilter fromConfig() {
+        if (configured == null) {
+            configured = new LoggingFilter(LogMode.fromConfig(), ConfigReader.getLogSampleRate(),
+                    ConfigReader.getLogMaxBody(), AsyncLogWriter.shared());
+        }
+        return configured;
+    }
+
+    public LogMode getMode() {
+        return mode;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long timeMillis = (System.nanoTime() - start) / 1_000_000;
+
+        switch (mode) {
+            case FULL:
+                writer.submit(capture(requestSpec, response, timeMillis));
+                break;
+            case SAMPLED:
+                if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                    writer.submit(capture(requestSpec, response, timeMillis));
+                }
+                break;
+            case FAILURE:
+                Deque<ExchangeRecord> buffer = FAILURE_BUFFER.get();
+                if (buffer.size() == FAILURE_BUFFER_SIZE) {
+                    buffer.removeFirst();
+                }
+                buffer.addLast(capture(requestSpec, response, timeMillis));
+                break;
+            default:
+                break;
+        }
+        return response;
+    }
+
+    /**
+     * Run after other filters so the logged request includes headers they add
+     */
+    @Override
+    public int getOrder() {
+        return OrderedFilter.LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * Write out the exchanges buffered on this thread (called when a test fails)
+     */
+    public static void publishThreadBuffer() {
+        Deque<ExchangeRecord> buffer = FAILURE_BUFFER.get();
+        if (!buffer.isEmpty()) {
+            AsyncLogWriter writer = AsyncLogWriter.shared();
+            for (ExchangeRecord record : buffer) {
+                writer.submit(record);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Forget the exchanges buffered on this thread (called when a test starts or passes)
+     */
+    public static void discardThreadBuffer() {
+        FAILURE_BUFFER.get().clear();
+    }
+
+    private ExchangeRecord capture(FilterableRequestSpecification requestSpec, Response response, long timeMillis) {
+        byte[] body = response.asByteArray();
+        boolean truncated = body.length > maxBody;
+        return new ExchangeRecord(
+                requestSpec.getMethod(),
+                requestSpec.getURI(),
+                requestSpec.getHeaders(),
+                requestBody(requestSpec.getBody()),
+                response.getStatusLine(),
+                response.getHeaders(),
+                response.getContentType(),
+                truncated ? Arrays.copyOf(body, maxBody) : body,
+                truncated,
+                timeMillis);
+    }
+
+    private String requestBody(Object body) {
+        if (body == null) {
+            return null;
+        }
+        String text = body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : String.valueOf(body);
+        return text.length() > maxBody ? text.substring(0, maxBody) + "... (truncated)" : text;
+    }
+}
@@ -0,0 +1,120 @@
+package com.restassured.practice.filters;
+
+import com.restassured.practice.metrics.MetricsRegistry;
+import com.restassured.practice.metrics.RouteMetrics;
+import com.restassured.practice.metrics.RouteTemplates;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Counts requests per route template ("/posts/{id}", not the raw URL) into
+ * MetricsRegistry: status codes, request and response bytes, and time.
+ * Received bytes are counted as the body is read, through a wrapper around
+ * the response stream, so chunked and compressed responses are measured too
+ * (as decoded body bytes) and streamed bodies are never buffered just to be
+ * measured. Bodies nobody reads count once ConnectionReleaseFilter drains them.
+ */
+public class MetricsFilter implements OrderedFilter {
+
+    private static final MetricsFilter SHARED = new MetricsFilter(MetricsRegistry.shared());
+
+    private final MetricsRegistry registry;
+
+    public MetricsFilter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    public static MetricsFilter shared() {
+        return SHARED;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        RouteMetrics metrics = registry.route(requestSpec.getMethod(),
+                RouteTemplates.template(requestSpec.getUserDefinedPath()));
+        long sent = bodySize(requestSpec.getBody());
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            metrics.record(RouteMetrics.NO_RESPONSE, sent, 0, System.nanoTime() - start);
+            throw e;
+        }
+        metrics.record(response.getStatusCode(), sent, 0, System.nanoTime() - start);
+        return new ResponseBuilder().clone(response)
+                .setBody(new CountingInputStream(response.asInputStream(), metrics))
+                .build();
+    }
+
+    /**
+     * Same position as LatencyFilter: after the filters whose work should not be timed
+     */
+    @Override
+    public int getOrder() {
+        return OrderedFilter.LOWEST_PRECEDENCE;
+    }
+
+    private static long bodySize(Object body) {
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        if (body instanceof File) {
+            return ((File) body).length();
+        }
+        return String.valueOf(body).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Adds every byte read from the body to the route's received bytes
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final RouteMetrics metrics;
+
+        CountingInputStream(InputStream body, RouteMetrics metrics) {
+            super(body);
+            this.metrics = metrics;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                metrics.addBytesReceived(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                metrics.addBytesReceived(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            metrics.addBytesReceived(skipped);
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.restassured.practice.filters;
+
+import com.restassured.practice.utils.ConfigReader;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Cookie;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in private HTTP cache for GET responses, so tests that re-fetch the same
+ * fixtures (/users/1, /posts/1, ...) stop paying a round-trip each time.
+ *
+ * Responses are keyed by URL plus the Accept and Authorization headers and
+ * cookies of the request. Only 200 responses that are fresh for a while
+ * (Cache-Control max-age) or carry a validator (ETag, Last-Modified) are
+ * stored; no-store and Vary: * are respected. A fresh entry is served without
+ * touching the network. A stale or no-cache entry is revalidated with
+ * If-None-Match/If-Modified-Since, and a 304 serves the stored body. A
+ * successful POST, PUT, PATCH or DELETE drops the entries for its URL. The
+ * cache is an LRU bounded by body and header bytes.
+ *
+ * Hits skip the filters that run after this one (logging, metrics, latency),
+ * which therefore only see real network traffic. Requests that set their own
+ * conditional or Cache-Control headers bypass the cache. Enable it for all
+ * ApiConfig specs with -Dapi.cache=true (size: -Dapi.cache.max.bytes).
+ */
+public class ResponseCacheFilter implements OrderedFilter {
+
+    private static final ResponseCacheFilter SHARED = new ResponseCacheFilter(ConfigReader.getResponseCacheMaxBytes());
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ResponseCacheFilter(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public static ResponseCacheFilter shared() {
+        return SHARED;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String uri = requestSpec.getURI();
+        if (!"GET".equalsIgnoreCase(requestSpec.getMethod())) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            if (response.getStatusCode() < 400) {
+                invalidate(uri);
+            }
+            return response;
+        }
+        if (bypass(requestSpec)) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        String key = key(uri, requestSpec);
+        Entry cached = get(key);
+        if (cached != null && !cached.noCache && System.nanoTime() < cached.freshUntilNanos) {
+            hits.increment();
+            return copy(cached.response);
+        }
+        if (cached != null && cached.hasValidator()) {
+            if (cached.etag != null) {
+                requestSpec.header("If-None-Match", cached.etag);
+            }
+            if (cached.lastModified != null) {
+                requestSpec.header("If-Modified-Since", cached.lastModified);
+            }
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (cached != null && response.getStatusCode() == 304) {
+            revalidations.increment();
+            String cacheControl = response.getHeader("Cache-Control");
+            long maxAgeSeconds = cacheControl != null ? maxAgeSeconds(cacheControl) : cached.maxAgeSeconds;
+            put(key, new Entry(cached.response, cached.size, cached.etag, cached.lastModified,
+                    cached.noCache, maxAgeSeconds));
+            return copy(cached.response);
+        }
+        misses.increment();
+        store(key, response);
+        return response;
+    }
+
+    /**
+     * Lookups served from the cache, fresh or revalidated, as a fraction of all GET lookups
+     */
+    public double getHitRate() {
+        long served = getHits() + getRevalidations();
+        long lookups = served + getMisses();
+        return lookups == 0 ? 0 : (double) served / lookups;
+    }
+
+    /**
+     * Lookups served from a fresh entry without a request
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Lookups served from a stale entry after a 304
+     */
+    public long getRevalidations() {
+        return revalidations.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public synchronized long getSizeBytes() {
+        return totalBytes;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.1f%% hit rate (%d fresh hits, %d revalidated, %d misses), %d entries, %d bytes, %d evictions",
+                getHitRate() * 100, getHits(), getRevalidations(), getMisses(), getEntryCount(), getSizeBytes(),
+                getEvictions());
+    }
+
+    /**
+     * Run after auth and cookie filters, which take part in the cache key, and
+     * before logging and metrics so that hits are not counted as traffic
+     */
+    @Override
+    public int getOrder() {
+        return OrderedFilter.DEFAULT_PRECEDENCE;
+    }
+
+    private void store(String key, Response response) {
+        if (response.getStatusCode() != 200) {
+            return;
+        }
+        String cacheControl = response.getHeader("Cache-Control");
+        String directives = cacheControl == null ? "" : cacheControl.toLowerCase(Locale.ROOT);
+        String vary = response.getHeader("Vary");
+        if (directives.contains("no-store") || (vary != null && vary.contains("*"))) {
+            return;
+        }
+        long maxAgeSeconds = maxAgeSeconds(directives);
+        boolean noCache = directives.contains("no-cache")
+                || (cacheControl == null && "no-cache".equalsIgnoreCase(response.getHeader("Pragma")));
+        String etag = response.getHeader("ETag");
+        String lastModified = response.getHeader("Last-Modified");
+        if ((maxAgeSeconds <= 0 || noCache) && etag == null && lastModified == null) {
+            return;
+        }
+        Response copy = copy(response);
+        long size = copy.asByteArray().length;
+        for (Header header : copy.getHeaders()) {
+            size += header.getName().length() + header.getValue().length();
+        }
+        if (size <= maxBytes) {
+            put(key, new Entry(copy, size, etag, lastModified, noCache, maxAgeSeconds));
+        }
+    }
+
+    private synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        totalBytes += entry.size - (previous == null ? 0 : previous.size);
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().size;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private synchronized void invalidate(String uri) {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Entry> entry = it.next();
+            if (entry.getKey().startsWith(uri + "\n")) {
+                totalBytes -= entry.getValue().size;
+                it.remove();
+            }
+        }
+    }
+
+    private static boolean bypass(FilterableRequestSpecification requestSpec) {
+        return requestSpec.getHeaders().hasHeaderWithName("If-None-Match")
+                || requestSpec.getHeaders().hasHeaderWithName("If-Modified-Since")
+                || requestSpec.getHeaders().hasHeaderWithName("Cache-Control");
+    }
+
+    private static String key(String uri, FilterableRequestSpecification requestSpec) {
+        StringBuilder key = new StringBuilder(uri).append('\n')
+                .append(requestSpec.getHeaders().getValue("Accept")).append('\n')
+                .append(requestSpec.getHeaders().getValue("Authorization")).append('\n');
+        for (Cookie cookie : requestSpec.getCookies()) {
+            key.append(cookie.getName()).append('=').append(cookie.getValue()).append(';');
+        }
+        return key.toString();
+    }
+
+    private static long maxAgeSeconds(String cacheControl) {
+        for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            String trimmed = directive.trim();
+            if (trimmed.startsWith("max-age=")) {
+                try {
+                    return Long.parseLong(trimmed.substring("max-age=".length()).replace("\"", ""));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static Response copy(Response response) {
+        return new ResponseBuilder().clone(response).build();
+    }
+
+    private static final class Entry {
+
+        private final Response response;
+        private final long size;
+        private final String etag;
+        private final String lastModified;
+        private final boolean noCache;
+        private final long maxAgeSeconds;
+        private final long freshUntilNanos;
+
+        private Entry(Response response, long size, String etag, String lastModified, boolean noCache,
+                      long maxAgeSeconds) {
+            this.response = response;
+            this.size = size;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.noCache = noCache;
+            this.maxAgeSeconds = maxAgeSeconds;
+            this.freshUntilNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(Math.max(0, maxAgeSeconds));
+        }
+
+        private boolean hasValidator() {
+            return etag != null || lastModified != null;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.restassured.practice.listeners;
+
+import com.restassured.practice.utils.ApiContext;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * Clears the ApiContext a test selected once the test method ends, so a pooled
+ * TestNG thread never carries one test's specification into the next. Only
+ * test methods clear it: the @BeforeMethod that called ApiContext.use(...)
+ * runs just before them on the same thread.
+ */
+public class ApiContextListener implements IInvokedMethodListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            ApiContext.clear();
+        }
+    }
+}
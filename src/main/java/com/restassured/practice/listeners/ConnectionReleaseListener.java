@@ -0,0 +1,20 @@
+package com.restassured.practice.listeners;
+
+import com.restassured.practice.filters.ConnectionReleaseFilter;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * Returns the connections still held by a test or configuration method's
+ * unread or unclosed response bodies to the pool once the method ends (see
+ * ConnectionReleaseFilter). TestNG calls this on the thread that ran the
+ * method, which is the thread the bodies were tracked on.
+ */
+public class ConnectionReleaseListener implements IInvokedMethodListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        ConnectionReleaseFilter.releaseAll();
+    }
+}
@@ -0,0 +1,26 @@
+package com.restassured.practice.listeners;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Sizes parallel suites to the machine instead of a hard-coded thread-count.
+ * Uses -Dtestng.threads when set, otherwise one thread per available core.
+ * Suites that do not run in parallel are left untouched.
+ */
+public class CoreCountThreadListener implements IAlterSuiteListener {
+
+    public static final String THREADS_PROPERTY = "testng.threads";
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threads = Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+        for (XmlSuite suite : suites) {
+            if (suite.getParallel() != null && suite.getParallel() != XmlSuite.ParallelMode.NONE) {
+                suite.setThreadCount(threads);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.restassured.practice.listeners;
+
+import com.restassured.practice.filters.AsyncLogWriter;
+import com.restassured.practice.filters.LoggingFilter;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Drives LoggingFilter's FAILURE mode: exchanges buffered while a test runs
+ * are written out only if that test fails. Also flushes the async log writer
+ * when the suite finishes so no output is lost.
+ */
+public class FailureLogListener implements ITestListener, ISuiteListener {
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        LoggingFilter.discardThreadBuffer();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        LoggingFilter.discardThreadBuffer();
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        LoggingFilter.publishThreadBuffer();
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        LoggingFilter.discardThreadBuffer();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        AsyncLogWriter.shared().flush(5000);
+    }
+}
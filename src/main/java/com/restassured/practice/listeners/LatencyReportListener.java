@@ -0,0 +1,41 @@
+package com.restassured.practice.listeners;
+
+import com.restassured.practice.metrics.LatencyHistogram;
+import com.restassured.practice.metrics.LatencyRecorder;
+import com.restassured.practice.utils.ConfigReader;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Writes the per-endpoint latency histograms to -Dapi.latency.report
+ * (default target/latency-histograms.json) when the suite finishes, and
+ * prints a one-line percentile summary per endpoint.
+ *
+ * The percentile limits themselves are checked by LatencyPercentileTest's
+ * @AfterSuite method, which runs before this listener: a failure there is
+ * reported as a TestNG failure instead of aborting the run here.
+ */
+public class LatencyReportListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        LatencyRecorder recorder = LatencyRecorder.shared();
+        Map<String, LatencyHistogram> histograms = recorder.getAll();
+        if (histograms.isEmpty()) {
+            return;
+        }
+        Path report = Path.of(ConfigReader.getLatencyReportPath());
+        recorder.export(report);
+
+        StringBuilder summary = new StringBuilder("Latency by endpoint (ms), full histograms in ")
+                .append(report).append('\n');
+        histograms.forEach((endpoint, histogram) -> summary.append(String.format(
+                "  %-45s n=%-6d p50=%-8.1f p95=%-8.1f p99=%-8.1f max=%.1f%n", endpoint, histogram.getCount(),
+                histogram.getValueAtPercentile(50) / 1_000.0, histogram.getValueAtPercentile(95) / 1_000.0,
+                histogram.getValueAtPercentile(99) / 1_000.0, histogram.getMax() / 1_000.0)));
+        System.out.print(summary);
+    }
+}
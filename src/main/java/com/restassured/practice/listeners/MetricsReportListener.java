@@ -0,0 +1,35 @@
+package com.restassured.practice.listeners;
+
+import com.restassured.practice.filters.ResponseCacheFilter;
+import com.restassured.practice.metrics.MetricsRegistry;
+import com.restassured.practice.utils.ConfigReader;
+import com.restassured.practice.utils.ConnectionPools;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.nio.file.Path;
+
+/**
+ * Exports the per-route request metrics to -Dapi.metrics.report when the suite
+ * finishes: Prometheus text by default (target/api-metrics.prom), JSON if the
+ * path ends in ".json". Connection pool usage per base URI, and the response
+ * cache hit rate when -Dapi.cache=true, are printed alongside.
+ */
+public class MetricsReportListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        MetricsRegistry registry = MetricsRegistry.shared();
+        if (registry.getAll().isEmpty()) {
+            return;
+        }
+        Path report = Path.of(ConfigReader.getMetricsReportPath());
+        registry.export(report);
+        System.out.println("Request metrics for " + registry.getAll().size() + " routes written to " + report);
+        ConnectionPools.allStats().forEach((baseUri, stats) ->
+                System.out.println("Connection pool " + baseUri + ": " + stats));
+        if (ConfigReader.isResponseCacheEnabled()) {
+            System.out.println("Response cache: " + ResponseCacheFilter.shared());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.restassured.practice.load;
+
+import com.restassured.practice.utils.ConfigReader;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Shape of an open-model load run: arrivals are scheduled at targetRps
+ * (ramped up linearly over rampUp) regardless of how fast responses come
+ * back, and up to virtualUsers of them execute concurrently.
+ */
+@Value
+@Builder
+public class LoadProfile {
+
+    @Builder.Default
+    int virtualUsers = ConfigReader.DEFAULT_LOAD_USERS;
+
+    @Builder.Default
+    double targetRps = ConfigReader.DEFAULT_LOAD_RPS;
+
+    @Builder.Default
+    Duration rampUp = Duration.ofSeconds(ConfigReader.DEFAULT_LOAD_RAMPUP);
+
+    @Builder.Default
+    Duration duration = Duration.ofSeconds(ConfigReader.DEFAULT_LOAD_DURATION);
+
+    /**
+     * Profile from -Dload.users, -Dload.rps, -Dload.rampup.seconds and -Dload.duration.seconds
+     */
+    public static LoadProfile fromConfig() {
+        return LoadProfile.builder()
+                .virtualUsers(ConfigReader.getLoadVirtualUsers())
+                .targetRps(ConfigReader.getLoadTargetRps())
+                .rampUp(Duration.ofSeconds(ConfigReader.getLoadRampUpSeconds()))
+                .duration(Duration.ofSeconds(ConfigReader.getLoadDurationSeconds()))
+                .build();
+    }
+
+    /**
+     * Offset from the start of the run at which the arrival with the given index is due,
+     * or a negative value if it falls after the end of the run
+     */
+    long arrivalOffsetNanos(long arrival) {
+        double rampSeconds = rampUp.toNanos() / 1e9;
+        double rampArrivals = targetRps * rampSeconds / 2;
+        double seconds = arrival < rampArrivals
+                // Rate grows linearly, so arrivals grow with t^2 during ramp-up
+                ? Math.sqrt(2 * arrival * rampSeconds / targetRps)
+                : rampSeconds / 2 + arrival / targetRps;
+        long offset = (long) (seconds * 1e9);
+        return offset < duration.toNanos() ? offset : -1;
+    }
+}
@@ -0,0 +1,92 @@
+package com.restassured.practice.load;
+
+import com.restassured.practice.metrics.LatencyHistogram;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a LoadRunner run. Latency is measured from each request's
+ * scheduled start, service time from when a virtual user actually began it;
+ * both histograms are in microseconds.
+ */
+public class LoadResult {
+
+    private final LoadProfile profile;
+    private final long scheduled;
+    private final LatencyHistogram latency;
+    private final LatencyHistogram serviceTime;
+    private final long errors;
+    private final Throwable firstError;
+    private final long elapsedNanos;
+
+    LoadResult(LoadProfile profile, long scheduled, LatencyHistogram latency, LatencyHistogram serviceTime,
+               long errors, Throwable firstError, long elapsedNanos) {
+        this.profile = profile;
+        this.scheduled = scheduled;
+        this.latency = latency;
+        this.serviceTime = serviceTime;
+        this.errors = errors;
+        this.firstError = firstError;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public LoadProfile getProfile() {
+        return profile;
+    }
+
+    public long getScheduled() {
+        return scheduled;
+    }
+
+    public long getCompleted() {
+        return latency.getCount();
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * First exception or assertion failure thrown by the scenario, or null
+     */
+    public Throwable getFirstError() {
+        return firstError;
+    }
+
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    /**
+     * Completed requests per second over the whole run, including ramp-up
+     */
+    public double getAchievedRps() {
+        return elapsedNanos == 0 ? 0 : getCompleted() / (elapsedNanos / 1e9);
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public LatencyHistogram getServiceTime() {
+        return serviceTime;
+    }
+
+    /**
+     * Latency percentile (0-100) in milliseconds
+     */
+    public double getLatencyMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d/%d requests in %.1fs (%.1f rps, target %.1f), %d errors%n"
+                        + "latency ms: p50=%.1f p90=%.1f p95=%.1f p99=%.1f max=%.1f%n"
+                        + "service ms: p50=%.1f p99=%.1f",
+                getCompleted(), scheduled, elapsedNanos / 1e9, getAchievedRps(), profile.getTargetRps(), errors,
+                getLatencyMillis(50), getLatencyMillis(90), getLatencyMillis(95), getLatencyMillis(99),
+                latency.getMax() / 1_000.0,
+                serviceTime.getValueAtPercentile(50) / 1_000.0, serviceTime.getValueAtPercentile(99) / 1_000.0);
+    }
+}
@@ -0,0 +1,112 @@
+package com.restassured.practice.load;
+
+import com.restassured.practice.filters.ConnectionReleaseFilter;
+import com.restassured.practice.metrics.LatencyHistogram;
+import com.restassured.practice.utils.ApiContext;
+import com.restassured.practice.utils.ConnectionPools;
+import com.restassured.practice.utils.RequestExecutors;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load driver for existing test scenarios.
+ *
+ * A scheduler thread issues arrivals at the profile's rate and hands them to
+ * a pool of virtual users. Latency is measured from when each arrival was due,
+ * not from when a virtual user picked it up, so queueing behind a slow server
+ * shows up in the percentiles instead of silently lowering the request rate.
+ * The calling thread's ApiContext is applied on every virtual user, so
+ * scenarios written with ApiContext.given() run unchanged. Virtual users run
+ * on virtual threads when RequestExecutors is in virtual-thread mode.
+ *
+ * The connection pools are grown to the number of virtual users before the
+ * run (ConnectionPools.ensureCapacity); with a pool smaller than that, the
+ * percentiles would measure waits for a connection lease and lease timeouts
+ * would be counted as errors.
+ */
+public class LoadRunner {
+
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+    private final LoadProfile profile;
+
+    public LoadRunner(LoadProfile profile) {
+        if (profile.getVirtualUsers() < 1 || profile.getTargetRps() <= 0) {
+            throw new IllegalArgumentException("Load profile needs at least one virtual user and a positive rate: "
+                    + profile);
+        }
+        this.profile = profile;
+    }
+
+    public LoadResult run(LoadScenario scenario) {
+        RequestSpecification context = ApiContext.current();
+        ConnectionPools.ensureCapacity(profile.getVirtualUsers());
+        LatencyHistogram latency = new LatencyHistogram();
+        LatencyHistogram serviceTime = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+
+        ExecutorService virtualUsers = RequestExecutors.newExecutor(profile.getVirtualUsers(), "load-vu-");
+        // With a thread per task, this is what caps concurrency at the number of virtual users
+        Semaphore slots = new Semaphore(profile.getVirtualUsers());
+        long start = System.nanoTime();
+        long scheduled = 0;
+        try {
+            for (long arrival = 0; !Thread.currentThread().isInterrupted(); arrival++) {
+                long offset = profile.arrivalOffsetNanos(arrival);
+                if (offset < 0) {
+                    break;
+                }
+                long due = start + offset;
+                long wait;
+                while ((wait = due - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long iteration = arrival;
+                virtualUsers.execute(() -> {
+                    slots.acquireUninterruptibly();
+                    if (context != null) {
+                        ApiContext.use(context);
+                    }
+                    long begin = System.nanoTime();
+                    try {
+                        scenario.execute(iteration);
+                    } catch (Exception | AssertionError e) {
+                        errors.increment();
+                        firstError.compareAndSet(null, e);
+                    } finally {
+                        ConnectionReleaseFilter.releaseAll();
+                        ApiContext.clear();
+                        slots.release();
+                    }
+                    long end = System.nanoTime();
+                    serviceTime.record((end - begin) / 1_000);
+                    latency.record((end - due) / 1_000);
+                });
+                scheduled++;
+            }
+        } finally {
+            virtualUsers.shutdown();
+        }
+        awaitDrain(virtualUsers);
+        return new LoadResult(profile, scheduled, latency, serviceTime, errors.sum(), firstError.get(),
+                System.nanoTime() - start);
+    }
+
+    private static void awaitDrain(ExecutorService virtualUsers) {
+        try {
+            if (!virtualUsers.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                virtualUsers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            virtualUsers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.restassured.practice.load;
+
+/**
+ * One unit of work in a load run, typically the body of an existing test method.
+ * The iteration number can be used to vary request data; any exception or
+ * failed assertion counts as an error.
+ */
+@FunctionalInterface
+public interface LoadScenario {
+
+    void execute(long iteration) throws Exception;
+}
@@ -0,0 +1,80 @@
+package com.restassured.practice.metrics;
+
+import com.restassured.practice.utils.JsonUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-endpoint latency histograms (microseconds), keyed like "GET /posts/{id}".
+ * Filled by LatencyFilter and written out by LatencyReportListener at suite end.
+ */
+public final class LatencyRecorder {
+
+    private static final LatencyRecorder SHARED = new LatencyRecorder();
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public static LatencyRecorder shared() {
+        return SHARED;
+    }
+
+    public void record(String endpoint, long micros) {
+        histograms.computeIfAbsent(endpoint, key -> new LatencyHistogram()).record(micros);
+    }
+
+    /**
+     * Histogram for an endpoint, or null if nothing was recorded for it
+     */
+    public LatencyHistogram get(String endpoint) {
+        return histograms.get(endpoint);
+    }
+
+    /**
+     * Endpoints in name order
+     */
+    public Map<String, LatencyHistogram> getAll() {
+        return new TreeMap<>(histograms);
+    }
+
+    /**
+     * Percentile summary and raw buckets per endpoint, in milliseconds except for bucket bounds
+     */
+    public Map<String, Object> toReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        getAll().forEach((endpoint, histogram) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("count", histogram.getCount());
+            entry.put("meanMs", histogram.getMean() / 1_000.0);
+            entry.put("p50Ms", histogram.getValueAtPercentile(50) / 1_000.0);
+            entry.put("p90Ms", histogram.getValueAtPercentile(90) / 1_000.0);
+            entry.put("p95Ms", histogram.getValueAtPercentile(95) / 1_000.0);
+            entry.put("p99Ms", histogram.getValueAtPercentile(99) / 1_000.0);
+            entry.put("maxMs", histogram.getMax() / 1_000.0);
+            entry.put("bucketsMicros", histogram.getBuckets());
+            report.put(endpoint, entry);
+        });
+        return report;
+    }
+
+    public void export(Path path) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, JsonUtils.toPrettyJson(toReport()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing latency report: " + path, e);
+        }
+    }
+
+    public void clear() {
+        histograms.clear();
+    }
+}
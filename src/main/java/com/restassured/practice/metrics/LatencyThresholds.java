@@ -0,0 +1,148 @@
+package com.restassured.practice.metrics;
+
+import com.restassured.practice.utils.ConfigReader;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Response-time matcher that asserts on percentiles across a run instead of
+ * on a single sample. Use it with expectResponseTime(...) or then().time(...):
+ * every response time (in milliseconds) is recorded, and once minSamples
+ * responses have been seen a response fails if it pushes any configured
+ * percentile over its limit. A single slow outlier therefore does not fail a
+ * test, but a shifted tail does.
+ *
+ * The matcher keeps state, so give each endpoint its own instance rather than
+ * sharing one across unrelated tests. Suite-wide percentiles per endpoint are
+ * checked at suite end by LatencyPercentileTest (an @AfterSuite method) with
+ * fromConfig().violations(...) instead.
+ *
+ * Instances are immutable in configuration; the p50/p95/p99 methods return copies.
+ */
+public final class LatencyThresholds extends TypeSafeMatcher<Long> {
+
+    private final Map<Double, Long> limitsMillis;
+    private final int minSamples;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    private LatencyThresholds(Map<Double, Long> limitsMillis, int minSamples) {
+        this.limitsMillis = limitsMillis;
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * No limits yet; add them with p50/p95/p99/percentile
+     */
+    public static LatencyThresholds percentiles() {
+        return new LatencyThresholds(new TreeMap<>(), ConfigReader.DEFAULT_LATENCY_MIN_SAMPLES);
+    }
+
+    /**
+     * Limits from -Dapi.latency.p50, -Dapi.latency.p95, -Dapi.latency.p99 and -Dapi.latency.min.samples
+     */
+    public static LatencyThresholds fromConfig() {
+        LatencyThresholds thresholds = percentiles().minSamples(ConfigReader.getLatencyMinSamples());
+        Long p50 = ConfigReader.getLatencyP50();
+        if (p50 != null) {
+            thresholds = thresholds.p50(p50);
+        }
+        return thresholds.p95(ConfigReader.getLatencyP95()).p99(ConfigReader.getLatencyP99());
+    }
+
+    public LatencyThresholds p50(long maxMillis) {
+        return percentile(50, maxMillis);
+    }
+
+    public LatencyThresholds p95(long maxMillis) {
+        return percentile(95, maxMillis);
+    }
+
+    public LatencyThresholds p99(long maxMillis) {
+        return percentile(99, maxMillis);
+    }
+
+    public LatencyThresholds percentile(double percentile, long maxMillis) {
+        Map<Double, Long> limits = new TreeMap<>(limitsMillis);
+        limits.put(percentile, maxMillis);
+        return new LatencyThresholds(limits, minSamples);
+    }
+
+    /**
+     * Number of responses to record before percentiles are checked
+     */
+    public LatencyThresholds minSamples(int minSamples) {
+        return new LatencyThresholds(limitsMillis, minSamples);
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    /**
+     * Percentile limits exceeded by histogram (in microseconds), e.g. "p95 4120 ms > 3000 ms";
+     * empty if it holds fewer than minSamples values or every limit is met
+     */
+    public List<String> violations(LatencyHistogram histogram) {
+        List<String> violations = new ArrayList<>();
+        if (histogram.getCount() < minSamples) {
+            return violations;
+        }
+        for (Map.Entry<Double, Long> limit : limitsMillis.entrySet()) {
+            long actual = histogram.getValueAtPercentile(limit.getKey());
+            if (actual > limit.getValue() * 1_000) {
+                violations.add("p" + formatPercentile(limit.getKey()) + " " + actual / 1_000 + " ms > "
+                        + limit.getValue() + " ms");
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Response times recorded so far, in microseconds
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    protected boolean matchesSafely(Long millis) {
+        histogram.record(millis * 1_000);
+        return histogram.getCount() < minSamples || firstExceeded() == null;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("response time percentiles within ").appendValue(limitsMillis)
+                .appendText(" ms after ").appendValue(minSamples).appendText(" samples");
+    }
+
+    @Override
+    protected void describeMismatchSafely(Long millis, Description mismatchDescription) {
+        Double percentile = firstExceeded();
+        if (percentile == null) {
+            mismatchDescription.appendText("response time was ").appendValue(millis).appendText(" ms");
+        } else {
+            mismatchDescription.appendText("p" + percentile + " was ")
+                    .appendValue(histogram.getValueAtPercentile(percentile) / 1_000)
+                    .appendText(" ms over ").appendValue(histogram.getCount()).appendText(" responses");
+        }
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    private Double firstExceeded() {
+        for (Map.Entry<Double, Long> limit : limitsMillis.entrySet()) {
+            if (histogram.getValueAtPercentile(limit.getKey()) > limit.getValue() * 1_000) {
+                return limit.getKey();
+            }
+        }
+        return null;
+    }
+}
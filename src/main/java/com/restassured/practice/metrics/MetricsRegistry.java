@@ -0,0 +1,144 @@
+package com.restassured.practice.metrics;
+
+import com.restassured.practice.utils.JsonUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Per-route request metrics, filled by MetricsFilter and exported at the end
+ * of a run as Prometheus text exposition format or JSON.
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry SHARED = new MetricsRegistry();
+
+    private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+    public static MetricsRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Metrics for a method and route template, created on first use
+     */
+    public RouteMetrics route(String method, String route) {
+        return routes.computeIfAbsent(method + " " + route, key -> new RouteMetrics(method, route));
+    }
+
+    /**
+     * Metrics for "METHOD /route", or null if nothing was recorded for it
+     */
+    public RouteMetrics get(String endpoint) {
+        return routes.get(endpoint);
+    }
+
+    /**
+     * All routes ordered by route then method
+     */
+    public List<RouteMetrics> getAll() {
+        List<RouteMetrics> all = new ArrayList<>(routes.values());
+        all.sort(Comparator.comparing(RouteMetrics::getRoute).thenComparing(RouteMetrics::getMethod));
+        return all;
+    }
+
+    public String toPrometheus() {
+        Collection<RouteMetrics> all = getAll();
+        StringBuilder out = new StringBuilder();
+        out.append("# HELP api_requests_total Requests by method, route and status (0 = no response)\n")
+                .append("# TYPE api_requests_total counter\n");
+        for (RouteMetrics metrics : all) {
+            metrics.getStatusCounts().forEach((status, count) ->
+                    out.append("api_requests_total{").append(labels(metrics)).append(",status=\"")
+                            .append(status).append("\"} ").append(count).append('\n'));
+        }
+        appendCounter(out, all, "api_request_bytes_sent_total", "Request body bytes sent",
+                RouteMetrics::getBytesSent);
+        appendCounter(out, all, "api_response_bytes_received_total", "Response body bytes received, counted as read",
+                RouteMetrics::getBytesReceived);
+        out.append("# HELP api_request_duration_seconds Request time\n")
+                .append("# TYPE api_request_duration_seconds summary\n");
+        for (RouteMetrics metrics : all) {
+            out.append("api_request_duration_seconds_count{").append(labels(metrics)).append("} ")
+                    .append(metrics.getRequests()).append('\n')
+                    .append("api_request_duration_seconds_sum{").append(labels(metrics)).append("} ")
+                    .append(seconds(metrics.getTotalNanos())).append('\n');
+        }
+        out.append("# HELP api_request_duration_seconds_max Slowest request\n")
+                .append("# TYPE api_request_duration_seconds_max gauge\n");
+        for (RouteMetrics metrics : all) {
+            out.append("api_request_duration_seconds_max{").append(labels(metrics)).append("} ")
+                    .append(seconds(metrics.getMaxNanos())).append('\n');
+        }
+        return out.toString();
+    }
+
+    public List<Map<String, Object>> toJsonReport() {
+        List<Map<String, Object>> report = new ArrayList<>();
+        for (RouteMetrics metrics : getAll()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("method", metrics.getMethod());
+            entry.put("route", metrics.getRoute());
+            entry.put("requests", metrics.getRequests());
+            entry.put("statusCounts", metrics.getStatusCounts());
+            entry.put("bytesSent", metrics.getBytesSent());
+            entry.put("bytesReceived", metrics.getBytesReceived());
+            entry.put("totalMs", metrics.getTotalNanos() / 1e6);
+            entry.put("meanMs", metrics.getRequests() == 0 ? 0 : metrics.getTotalNanos() / 1e6 / metrics.getRequests());
+            entry.put("maxMs", metrics.getMaxNanos() / 1e6);
+            report.add(entry);
+        }
+        return report;
+    }
+
+    /**
+     * Write the metrics to path: JSON if it ends in ".json", Prometheus text otherwise
+     */
+    public void export(Path path) {
+        String content = path.toString().endsWith(".json") ? JsonUtils.toPrettyJson(toJsonReport()) : toPrometheus();
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing metrics: " + path, e);
+        }
+    }
+
+    public void clear() {
+        routes.clear();
+    }
+
+    private static void appendCounter(StringBuilder out, Collection<RouteMetrics> all, String name, String help,
+                                      ToLongFunction<RouteMetrics> value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(" counter\n");
+        for (RouteMetrics metrics : all) {
+            out.append(name).append('{').append(labels(metrics)).append("} ")
+                    .append(value.applyAsLong(metrics)).append('\n');
+        }
+    }
+
+    private static String labels(RouteMetrics metrics) {
+        return "method=\"" + escape(metrics.getMethod()) + "\",route=\"" + escape(metrics.getRoute()) + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String seconds(long nanos) {
+        return String.valueOf(nanos / 1e9);
+    }
+}
@@ -0,0 +1,87 @@
+package com.restassured.practice.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for one method and route template. All updates are lock-free
+ * (LongAdder per counter, one adder per status code), so any number of test
+ * threads can record into the same route.
+ */
+public final class RouteMetrics {
+
+    /**
+     * Status recorded when the request failed without a response
+     */
+    public static final int NO_RESPONSE = 0;
+
+    private final String method;
+    private final String route;
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    RouteMetrics(String method, String route) {
+        this.method = method;
+        this.route = route;
+    }
+
+    public void record(int statusCode, long sent, long received, long nanos) {
+        requests.increment();
+        statusCounts.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+        bytesSent.add(sent);
+        bytesReceived.add(received);
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Response body bytes read after the request was recorded, e.g. as a streamed body is consumed
+     */
+    public void addBytesReceived(long received) {
+        bytesReceived.add(received);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Request count per status code, in code order; NO_RESPONSE counts requests that threw
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCounts.forEach((code, count) -> counts.put(code, count.sum()));
+        return counts;
+    }
+
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+}
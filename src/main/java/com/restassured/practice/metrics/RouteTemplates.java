@@ -0,0 +1,67 @@
+package com.restassured.practice.metrics;
+
+/**
+ * Turns request paths into route templates for metric keys, so "/users/1"
+ * and "/users/2" are counted together as "/users/{id}". Paths written with
+ * path parameters ("/posts/{id}") are kept as they are; otherwise numeric,
+ * UUID-like and long hex segments are replaced with "{id}".
+ */
+public final class RouteTemplates {
+
+    private RouteTemplates() {
+    }
+
+    public static String template(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        int query = path.indexOf('?');
+        String withoutQuery = query >= 0 ? path.substring(0, query) : path;
+        if (withoutQuery.isEmpty()) {
+            return "/";
+        }
+        StringBuilder template = new StringBuilder(withoutQuery.length());
+        int start = 0;
+        while (start <= withoutQuery.length()) {
+            int end = withoutQuery.indexOf('/', start);
+            if (end < 0) {
+                end = withoutQuery.length();
+            }
+            String segment = withoutQuery.substring(start, end);
+            template.append(isIdentifier(segment) ? "{id}" : segment);
+            if (end < withoutQuery.length()) {
+                template.append('/');
+            }
+            start = end + 1;
+        }
+        return template.toString();
+    }
+
+    /**
+     * Method and route template, e.g. "GET /posts/{id}"
+     */
+    public static String endpoint(String method, String path) {
+        return method + " " + template(path);
+    }
+
+    private static boolean isIdentifier(String segment) {
+        if (segment.isEmpty() || segment.indexOf('{') >= 0) {
+            return false;
+        }
+        boolean digitsOnly = true;
+        boolean hexOrDash = true;
+        int hexDigits = 0;
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            boolean hex = digit || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            digitsOnly &= digit;
+            hexOrDash &= hex || c == '-';
+            if (hex) {
+                hexDigits++;
+            }
+        }
+        // Plain numbers, or UUIDs / hashes made of at least 16 hex digits
+        return digitsOnly || (hexOrDash && hexDigits >= 16);
+    }
+}
@@ -0,0 +1,503 @@
+package com.restassured.practice.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * HTTPBin stand-in: request echo endpoints (/get, /post, /headers, /cookies),
+ * auth challenges (basic, hidden basic, bearer, digest), status codes,
+ * caching (/cache, /cache/{n}, /etag/{etag}), redirects (/redirect/{n},
+ * /redirect-to) and binary payloads
+ * (/image/png, /image/jpeg, /bytes/{n}, chunked /stream-bytes/{n}).
+ */
+class HttpBinHandler extends StubHandler {
+
+    private static final String DIGEST_REALM = "me@kennethreitz.com";
+    private static final String DIGEST_OPAQUE = "5ccc069c403ebaf9f0171e9517f40e41";
+    private static final int BYTES_CHUNK = 64 * 1024;
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME;
+
+    private final byte[] png = renderImage("png");
+    private final byte[] jpeg = renderImage("jpeg");
+
+    HttpBinHandler(StubFixtures fixtures) {
+        super(fixtures);
+    }
+
+    @Override
+    protected void route(HttpExchange exchange, String method, List<String> segments) throws IOException {
+        if (segments.isEmpty()) {
+            StubHttp.notFound(exchange);
+            return;
+        }
+        switch (segments.get(0)) {
+            case "get":
+            case "anything":
+                StubHttp.sendJson(exchange, 200, echo(exchange, false));
+                break;
+            case "post":
+            case "put":
+            case "patch":
+            case "delete":
+                StubHttp.sendJson(exchange, 200, echo(exchange, true));
+                break;
+            case "headers":
+                StubHttp.sendJson(exchange, 200, Collections.singletonMap("headers", headers(exchange)));
+                break;
+            case "user-agent":
+                StubHttp.sendJson(exchange, 200,
+                        Collections.singletonMap("user-agent", exchange.getRequestHeaders().getFirst("User-Agent")));
+                break;
+            case "cookies":
+                cookies(exchange, segments);
+                break;
+            case "response-headers":
+                responseHeaders(exchange);
+                break;
+            case "status":
+                Integer code = segments.size() > 1 ? StubHttp.parseId(segments.get(1)) : null;
+                StubHttp.sendEmpty(exchange, code == null ? 400 : code);
+                break;
+            case "basic-auth":
+            case "hidden-basic-auth":
+                basicAuth(exchange, segments);
+                break;
+            case "bearer":
+                bearer(exchange);
+                break;
+            case "digest-auth":
+                digestAuth(exchange, method, segments);
+                break;
+            case "image":
+                image(exchange, segments);
+                break;
+            case "bytes":
+                bytes(exchange, segments, false);
+                break;
+            case "stream-bytes":
+                bytes(exchange, segments, true);
+                break;
+            case "cache":
+                cache(exchange, segments);
+                break;
+            case "etag":
+                etag(exchange, segments);
+                break;
+            case "redirect":
+                redirect(exchange, segments);
+                break;
+            case "redirect-to":
+                redirectTo(exchange);
+                break;
+            default:
+                StubHttp.notFound(exchange);
+        }
+    }
+
+    private Map<String, Object> echo(HttpExchange exchange, boolean withBody) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("args", StubHttp.flatten(StubHttp.queryParams(exchange)));
+        if (withBody) {
+            Map<String, List<String>> form = new LinkedHashMap<>();
+            Map<String, List<String>> files = new LinkedHashMap<>();
+            Object json = null;
+            String data = "";
+
+            byte[] raw = StubHttp.readBody(exchange);
+            String contentType = String.valueOf(exchange.getRequestHeaders().getFirst("Content-Type")).toLowerCase();
+            if (contentType.startsWith("multipart/form-data")) {
+                parseMultipart(raw, boundary(exchange.getRequestHeaders().getFirst("Content-Type")), form, files);
+            } else if (contentType.startsWith("application/x-www-form-urlencoded")) {
+                form.putAll(StubHttp.parseUrlEncoded(new String(raw, StandardCharsets.UTF_8)));
+            } else {
+                data = new String(raw, StandardCharsets.UTF_8);
+                if (contentType.contains("json") && !data.isEmpty()) {
+                    try {
+                        json = StubHttp.MAPPER.readValue(raw, Object.class);
+                    } catch (JsonProcessingException e) {
+                        json = null;
+                    }
+                }
+            }
+            body.put("data", data);
+            body.put("files", StubHttp.flatten(files));
+            body.put("form", StubHttp.flatten(form));
+            body.put("json", json);
+        }
+        body.put("headers", headers(exchange));
+        body.put("origin", exchange.getRemoteAddress().getAddress().getHostAddress());
+        body.put("url", exchange.getRequestURI().toString());
+        return body;
+    }
+
+    private void cookies(HttpExchange exchange, List<String> segments) throws IOException {
+        if (segments.size() > 1 && "set".equals(segments.get(1))) {
+            // Like the real service: Set-Cookie on a 302 to /cookies, not on the final response
+            StubHttp.queryParams(exchange).forEach((name, values) -> exchange.getResponseHeaders()
+                    .add("Set-Cookie", name + "=" + values.get(values.size() - 1) + "; Path=/"));
+            redirectToCookies(exchange);
+            return;
+        }
+        if (segments.size() > 1 && "delete".equals(segments.get(1))) {
+            StubHttp.queryParams(exchange).keySet().forEach(name -> exchange.getResponseHeaders()
+                    .add("Set-Cookie", name + "=; Max-Age=0; Path=/"));
+            redirectToCookies(exchange);
+            return;
+        }
+        StubHttp.sendJson(exchange, 200, Collections.singletonMap("cookies", requestCookies(exchange)));
+    }
+
+    private void redirectToCookies(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Location", exchange.getHttpContext().getPath() + "/cookies");
+        StubHttp.sendEmpty(exchange, 302);
+    }
+
+    private void redirect(HttpExchange exchange, List<String> segments) throws IOException {
+        Integer hops = segments.size() > 1 ? StubHttp.parseId(segments.get(1)) : null;
+        if (hops == null || hops < 1) {
+            StubHttp.notFound(exchange);
+            return;
+        }
+        String context = exchange.getHttpContext().getPath();
+        exchange.getResponseHeaders().set("Location", hops == 1 ? context + "/get" : context + "/redirect/" + (hops - 1));
+        StubHttp.sendEmpty(exchange, 302);
+    }
+
+    private void redirectTo(HttpExchange exchange) throws IOException {
+        Map<String, List<String>> params = StubHttp.queryParams(exchange);
+        String url = StubHttp.first(params, "url");
+        if (url == null) {
+            StubHttp.sendEmpty(exchange, 400);
+            return;
+        }
+        Integer status = StubHttp.parseId(String.valueOf(StubHttp.first(params, "status_code")));
+        exchange.getResponseHeaders().set("Location", url);
+        StubHttp.sendEmpty(exchange, status != null && status >= 300 && status < 400 ? status : 302);
+    }
+
+    private void responseHeaders(HttpExchange exchange) throws IOException {
+        Map<String, Object> params = StubHttp.flatten(StubHttp.queryParams(exchange));
+        StubHttp.queryParams(exchange).forEach((name, values) ->
+                values.forEach(value -> exchange.getResponseHeaders().add(name, value)));
+        StubHttp.sendJson(exchange, 200, params);
+    }
+
+    private void basicAuth(HttpExchange exchange, List<String> segments) throws IOException {
+        boolean hidden = "hidden-basic-auth".equals(segments.get(0));
+        if (segments.size() < 3) {
+            StubHttp.notFound(exchange);
+            return;
+        }
+        String user = segments.get(1);
+        String expected = "Basic " + Base64.getEncoder()
+                .encodeToString((user + ":" + segments.get(2)).getBytes(StandardCharsets.UTF_8));
+        if (expected.equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("authenticated", true);
+            body.put("user", user);
+            StubHttp.sendJson(exchange, 200, body);
+        } else if (hidden) {
+            StubHttp.notFound(exchange);
+        } else {
+            exchange.getResponseHeaders().set("WWW-Authenticate", "Basic realm=\"Fake Realm\"");
+            StubHttp.sendEmpty(exchange, 401);
+        }
+    }
+
+    private void bearer(HttpExchange exchange) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+            StubHttp.sendEmpty(exchange, 401);
+            return;
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("authenticated", true);
+        body.put("token", authorization.substring("Bearer ".length()));
+        StubHttp.sendJson(exchange, 200, body);
+    }
+
+    private void digestAuth(HttpExchange exchange, String method, List<String> segments) throws IOException {
+        if (segments.size() < 4) {
+            StubHttp.notFound(exchange);
+            return;
+        }
+        String qop = segments.get(1);
+        String user = segments.get(2);
+        String password = segments.get(3);
+
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization != null && authorization.startsWith("Digest ")) {
+            Map<String, String> params = parseDigest(authorization.substring("Digest ".length()));
+            String ha1 = md5(user + ":" + DIGEST_REALM + ":" + password);
+            String ha2 = md5(method + ":" + params.get("uri"));
+            String expected = params.containsKey("qop")
+                    ? md5(ha1 + ":" + params.get("nonce") + ":" + params.get("nc") + ":"
+                            + params.get("cnonce") + ":" + params.get("qop") + ":" + ha2)
+                    : md5(ha1 + ":" + params.get("nonce") + ":" + ha2);
+            if (user.equals(params.get("username")) && expected.equals(params.get("response"))) {
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("authenticated", true);
+                body.put("user", user);
+                StubHttp.sendJson(exchange, 200, body);
+                return;
+            }
+        }
+
+        String nonce = UUID.randomUUID().toString().replace("-", "");
+        exchange.getResponseHeaders().set("WWW-Authenticate", "Digest realm=\"" + DIGEST_REALM
+                + "\", nonce=\"" + nonce + "\", qop=\"" + qop + "\", opaque=\"" + DIGEST_OPAQUE
+                + "\", algorithm=MD5, stale=FALSE");
+        StubHttp.sendEmpty(exchange, 401);
+    }
+
+    private void cache(HttpExchange exchange, List<String> segments) throws IOException {
+        if (segments.size() > 1) {
+            Integer seconds = StubHttp.parseId(segments.get(1));
+            if (seconds == null) {
+                StubHttp.notFound(exchange);
+                return;
+            }
+            exchange.getResponseHeaders().set("Cache-Control", "public, max-age=" + seconds);
+            StubHttp.sendJson(exchange, 200, echo(exchange, false));
+            return;
+        }
+        Headers request = exchange.getRequestHeaders();
+        if (request.containsKey("If-Modified-Since") || request.containsKey("If-None-Match")) {
+            StubHttp.sendEmpty(exchange, 304);
+            return;
+        }
+        exchange.getResponseHeaders().set("Last-Modified", HTTP_DATE.format(ZonedDateTime.now(ZoneOffset.UTC)));
+        exchange.getResponseHeaders().set("ETag", UUID.randomUUID().toString().replace("-", ""));
+        StubHttp.sendJson(exchange, 200, echo(exchange, false));
+    }
+
+    private void etag(HttpExchange exchange, List<String> segments) throws IOException {
+        if (segments.size() < 2) {
+            StubHttp.notFound(exchange);
+            return;
+        }
+        String etag = segments.get(1);
+        exchange.getResponseHeaders().set("ETag", "\"" + etag + "\"");
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || "*".equals(ifNoneMatch.trim()))) {
+            StubHttp.sendEmpty(exchange, 304);
+            return;
+        }
+        StubHttp.sendJson(exchange, 200, echo(exchange, false));
+    }
+
+    private void image(HttpExchange exchange, List<String> segments) throws IOException {
+        String format = segments.size() > 1 ? segments.get(1) : "png";
+        if ("png".equals(format)) {
+            StubHttp.sendBytes(exchange, 200, "image/png", png);
+        } else if ("jpeg".equals(format) || "jpg".equals(format)) {
+            StubHttp.sendBytes(exchange, 200, "image/jpeg", jpeg);
+        } else {
+            StubHttp.notFound(exchange);
+        }
+    }
+
+    /**
+     * Streams n pseudo-random bytes (seeded by ?seed=) without buffering the
+     * whole payload, so large download tests can run against the stub;
+     * chunked, without Content-Length, for /stream-bytes/{n}
+     */
+    private void bytes(HttpExchange exchange, List<String> segments, boolean chunked) throws IOException {
+        Long size = segments.size() > 1 ? parseLong(segments.get(1)) : null;
+        if (size == null || size < 0) {
+            StubHttp.notFound(exchange);
+            return;
+        }
+        String seedParam = StubHttp.first(StubHttp.queryParams(exchange), "seed");
+        Long seed = seedParam == null ? null : parseLong(seedParam);
+        Random random = seed == null ? new Random() : new Random(seed);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, chunked ? 0 : size == 0 ? -1 : size);
+        try (OutputStream out = exchange.getResponseBody()) {
+            byte[] chunk = new byte[(int) Math.min(BYTES_CHUNK, Math.max(size, 1))];
+            long remaining = size;
+            while (remaining > 0) {
+                random.nextBytes(chunk);
+                int length = (int) Math.min(chunk.length, remaining);
+                out.write(chunk, 0, length);
+                remaining -= length;
+            }
+        }
+    }
+
+    private static Map<String, Object> headers(HttpExchange exchange) {
+        Map<String, Object> headers = new TreeMap<>();
+        Headers requestHeaders = exchange.getRequestHeaders();
+        requestHeaders.forEach((name, values) ->
+                headers.put(StubHttp.canonicalHeaderName(name), String.join(",", values)));
+        return headers;
+    }
+
+    private static Map<String, String> requestCookies(HttpExchange exchange) {
+        Map<String, String> cookies = new LinkedHashMap<>();
+        List<String> headers = exchange.getRequestHeaders().get("Cookie");
+        if (headers == null) {
+            return cookies;
+        }
+        for (String header : headers) {
+            for (String pair : header.split(";")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    cookies.put(pair.substring(0, eq).trim(), pair.substring(eq + 1).trim());
+                }
+            }
+        }
+        return cookies;
+    }
+
+    private static String boundary(String contentType) {
+        for (String part : contentType.split(";")) {
+            String trimmed = part.trim();
+            if (trimmed.toLowerCase().startsWith("boundary=")) {
+                String value = trimmed.substring("boundary=".length());
+                return value.startsWith("\"") ? value.substring(1, value.length() - 1) : value;
+            }
+        }
+        throw new IllegalArgumentException("multipart request without boundary");
+    }
+
+    private static void parseMultipart(byte[] body, String boundary,
+                                       Map<String, List<String>> form, Map<String, List<String>> files) {
+        byte[] delimiter = ("--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        int position = indexOf(body, delimiter, 0);
+        while (position >= 0) {
+            int partStart = position + delimiter.length;
+            if (partStart + 1 < body.length && body[partStart] == '-' && body[partStart + 1] == '-') {
+                return;
+            }
+            partStart += 2;
+            int next = indexOf(body, delimiter, partStart);
+            if (next < 0) {
+                return;
+            }
+            int headerEnd = indexOf(body, "\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1), partStart);
+            if (headerEnd < 0 || headerEnd > next) {
+                return;
+            }
+            String partHeaders = new String(body, partStart, headerEnd - partStart, StandardCharsets.UTF_8);
+            int contentStart = headerEnd + 4;
+            int contentEnd = Math.max(contentStart, next - 2);
+            String content = new String(body, contentStart, contentEnd - contentStart, StandardCharsets.UTF_8);
+
+            String name = dispositionParam(partHeaders, "name");
+            String filename = dispositionParam(partHeaders, "filename");
+            if (name != null) {
+                Map<String, List<String>> target = filename != null ? files : form;
+                target.computeIfAbsent(name, k -> new ArrayList<>()).add(content);
+            }
+            position = next;
+        }
+    }
+
+    private static String dispositionParam(String partHeaders, String param) {
+        for (String line : partHeaders.split("\r\n")) {
+            if (!line.toLowerCase().startsWith("content-disposition")) {
+                continue;
+            }
+            for (String token : line.split(";")) {
+                String trimmed = token.trim();
+                if (trimmed.startsWith(param + "=")) {
+                    String value = trimmed.substring(param.length() + 1);
+                    return value.startsWith("\"") ? value.substring(1, value.length() - 1) : value;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle, int from) {
+        outer:
+        for (int i = Math.max(0, from); i <= haystack.length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static Map<String, String> parseDigest(String header) {
+        Map<String, String> params = new LinkedHashMap<>();
+        for (String token : header.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)")) {
+            int eq = token.indexOf('=');
+            if (eq > 0) {
+                String value = token.substring(eq + 1).trim();
+                if (value.startsWith("\"") && value.endsWith("\"") && value.length() >= 2) {
+                    value = value.substring(1, value.length() - 1);
+                }
+                params.put(token.substring(0, eq).trim(), value);
+            }
+        }
+        return params;
+    }
+
+    private static String md5(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.ISO_8859_1));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static byte[] renderImage(String format) {
+        BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < 64; x++) {
+            for (int y = 0; y < 64; y++) {
+                image.setRGB(x, y, new Color(x * 4, y * 4, 128).getRGB());
+            }
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, format, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error rendering stub " + format + " image", e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.restassured.practice.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSONPlaceholder stand-in: read-only collections with json-server style
+ * filtering (?userId=1), pagination (_page, _limit, _start), nested routes
+ * (/posts/1/comments) and non-persisting writes, like the real service.
+ * GETs carry the real service's caching headers: a 12 hour max-age and a
+ * weak ETag, answered with 304 on a matching If-None-Match.
+ */
+class JsonPlaceholderHandler extends StubHandler {
+
+    private static final String CACHE_CONTROL = "max-age=43200";
+
+    JsonPlaceholderHandler(StubFixtures fixtures) {
+        super(fixtures);
+    }
+
+    @Override
+    protected void route(HttpExchange exchange, String method, List<String> segments) throws IOException {
+        if (segments.isEmpty() || segments.size() > 3) {
+            StubHttp.notFound(exchange);
+            return;
+        }
+        List<Map<String, Object>> collection = fixtures.jsonPlaceholder(segments.get(0));
+        if (collection == null) {
+            StubHttp.notFound(exchange);
+            return;
+        }
+
+        if (segments.size() == 1) {
+            if ("GET".equals(method)) {
+                StubHttp.sendCacheableJson(exchange, query(collection, StubHttp.queryParams(exchange)), CACHE_CONTROL);
+            } else if ("POST".equals(method)) {
+                Map<String, Object> created = StubHttp.readJsonObject(exchange);
+                created.put("id", collection.size() + 1);
+                StubHttp.sendJson(exchange, 201, created);
+            } else {
+                StubHttp.notFound(exchange);
+            }
+            return;
+        }
+
+        Integer id = StubHttp.parseId(segments.get(1));
+        Map<String, Object> existing = id == null ? null : findById(collection, id);
+
+        if (segments.size() == 3) {
+            List<Map<String, Object>> nested = fixtures.jsonPlaceholder(segments.get(2));
+            if (!"GET".equals(method) || existing == null || nested == null) {
+                StubHttp.notFound(exchange);
+                return;
+            }
+            Map<String, List<String>> params = StubHttp.queryParams(exchange);
+            params.put(singular(segments.get(0)) + "Id", List.of(String.valueOf(id)));
+            StubHttp.sendCacheableJson(exchange, query(nested, params), CACHE_CONTROL);
+            return;
+        }
+
+        switch (method) {
+            case "GET":
+                if (existing == null) {
+                    StubHttp.notFound(exchange);
+                } else {
+                    StubHttp.sendCacheableJson(exchange, existing, CACHE_CONTROL);
+                }
+                break;
+            case "PUT":
+                Map<String, Object> replaced = StubHttp.readJsonObject(exchange);
+                replaced.put("id", id);
+                StubHttp.sendJson(exchange, existing == null ? 500 : 200, replaced);
+                break;
+            case "PATCH":
+                if (existing == null) {
+                    StubHttp.notFound(exchange);
+                    break;
+                }
+                Map<String, Object> patched = new LinkedHashMap<>(existing);
+                patched.putAll(StubHttp.readJsonObject(exchange));
+                StubHttp.sendJson(exchange, 200, patched);
+                break;
+            case "DELETE":
+                StubHttp.sendJson(exchange, 200, new LinkedHashMap<>());
+                break;
+            default:
+                StubHttp.notFound(exchange);
+        }
+    }
+
+    private static List<Map<String, Object>> query(List<Map<String, Object>> collection,
+                                                   Map<String, List<String>> params) {
+        List<Map<String, Object>> matches = new ArrayList<>();
+        for (Map<String, Object> item : collection) {
+            if (matches(item, params)) {
+                matches.add(item);
+            }
+        }
+
+        Integer limit = parseOrNull(StubHttp.first(params, "_limit"));
+        Integer page = parseOrNull(StubHttp.first(params, "_page"));
+        Integer start = parseOrNull(StubHttp.first(params, "_start"));
+        int from = 0;
+        if (start != null) {
+            from = start;
+        } else if (page != null) {
+            from = (page - 1) * (limit == null ? 10 : limit);
+        }
+        int to = limit == null ? (page == null ? matches.size() : from + 10) : from + limit;
+        from = Math.max(0, Math.min(from, matches.size()));
+        to = Math.max(from, Math.min(to, matches.size()));
+        return matches.subList(from, to);
+    }
+
+    private static boolean matches(Map<String, Object> item, Map<String, List<String>> params) {
+        for (Map.Entry<String, List<String>> param : params.entrySet()) {
+            if (param.getKey().startsWith("_")) {
+                continue;
+            }
+            Object value = item.get(param.getKey());
+            if (value == null || !param.getValue().contains(String.valueOf(value))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, Object> findById(List<Map<String, Object>> collection, int id) {
+        for (Map<String, Object> item : collection) {
+            if (Integer.valueOf(id).equals(item.get("id"))) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    private static Integer parseOrNull(String value) {
+        return value == null ? null : StubHttp.parseId(value);
+    }
+
+    private static String singular(String resource) {
+        return resource.endsWith("s") ? resource.substring(0, resource.length() - 1) : resource;
+    }
+}
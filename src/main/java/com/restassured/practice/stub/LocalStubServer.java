@@ -0,0 +1,109 @@
+package com.restassured.practice.stub;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process stand-in for JSONPlaceholder, ReqRes, HTTPBin and REST Countries.
+ * Built on the JDK's selector-based HttpServer, so it needs no extra
+ * dependencies and keeps connections alive between requests.
+ *
+ * Each API is mounted under its own prefix on a single loopback port:
+ * /jsonplaceholder, /reqres/api, /httpbin and /restcountries/v3.1.
+ * Enable it for the whole suite with -Dapi.target=local (see ConfigReader).
+ */
+public class LocalStubServer {
+
+    public static final String JSONPLACEHOLDER_PATH = "/jsonplaceholder";
+    public static final String REQRES_PATH = "/reqres/api";
+    public static final String HTTPBIN_PATH = "/httpbin";
+    public static final String RESTCOUNTRIES_PATH = "/restcountries/v3.1";
+
+    private static LocalStubServer shared;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private LocalStubServer(int port, int threads) throws IOException {
+        StubFixtures fixtures = new StubFixtures();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.createContext(JSONPLACEHOLDER_PATH, new JsonPlaceholderHandler(fixtures));
+        this.server.createContext(REQRES_PATH, new ReqResHandler(fixtures));
+        this.server.createContext(HTTPBIN_PATH, new HttpBinHandler(fixtures));
+        this.server.createContext(RESTCOUNTRIES_PATH, new RestCountriesHandler(fixtures));
+
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "stub-server-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * Start a new server on the given port (0 picks a free port)
+     */
+    public static LocalStubServer start(int port) {
+        int threads = Integer.getInteger("stub.threads", Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+        try {
+            return new LocalStubServer(port, threads);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error starting local stub server on port " + port, e);
+        }
+    }
+
+    /**
+     * JVM-wide server, started on first use on -Dstub.port (default: any free port)
+     */
+    public static synchronized LocalStubServer shared() {
+        if (shared == null) {
+            shared = start(Integer.getInteger("stub.port", 0));
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::stop, "stub-server-shutdown"));
+        }
+        return shared;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Root URL without an API prefix, e.g. http://127.0.0.1:54321
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getAddress().getHostAddress() + ":" + getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Run the stub standalone, e.g. for exploring it with curl or Postman
+     */
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+        LocalStubServer server = start(port);
+        System.out.println("Local stub server listening on " + server.getBaseUrl());
+        System.out.println("  JSONPlaceholder: " + server.getBaseUrl() + JSONPLACEHOLDER_PATH);
+        System.out.println("  ReqRes:          " + server.getBaseUrl() + REQRES_PATH);
+        System.out.println("  HTTPBin:         " + server.getBaseUrl() + HTTPBIN_PATH);
+        System.out.println("  REST Countries:  " + server.getBaseUrl() + RESTCOUNTRIES_PATH);
+        try {
+            Thread.currentThread().join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.stop();
+        }
+    }
+}
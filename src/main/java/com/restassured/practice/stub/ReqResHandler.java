@@ -0,0 +1,150 @@
+package com.restassured.practice.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ReqRes stand-in: paged users, create/update echoes with timestamps and the
+ * register/login flows used by the authentication examples.
+ */
+class ReqResHandler extends StubHandler {
+
+    static final String LOGIN_TOKEN = "QpwL5tke4Pnpja7X4";
+    private static final int PER_PAGE = 6;
+
+    private final AtomicInteger nextId = new AtomicInteger(100);
+
+    ReqResHandler(StubFixtures fixtures) {
+        super(fixtures);
+    }
+
+    @Override
+    protected void route(HttpExchange exchange, String method, List<String> segments) throws IOException {
+        if (segments.isEmpty()) {
+            StubHttp.notFound(exchange);
+            return;
+        }
+        switch (segments.get(0)) {
+            case "users":
+                users(exchange, method, segments);
+                break;
+            case "register":
+                credentials(exchange, method, true);
+                break;
+            case "login":
+                credentials(exchange, method, false);
+                break;
+            default:
+                StubHttp.notFound(exchange);
+        }
+    }
+
+    private void users(HttpExchange exchange, String method, List<String> segments) throws IOException {
+        List<Map<String, Object>> users = fixtures.reqResUsers();
+        if (segments.size() == 1) {
+            if ("GET".equals(method)) {
+                String pageParam = StubHttp.first(StubHttp.queryParams(exchange), "page");
+                Integer page = pageParam == null ? Integer.valueOf(1) : StubHttp.parseId(pageParam);
+                int current = page == null || page < 1 ? 1 : page;
+                int from = Math.min((current - 1) * PER_PAGE, users.size());
+                int to = Math.min(from + PER_PAGE, users.size());
+
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("page", current);
+                body.put("per_page", PER_PAGE);
+                body.put("total", users.size());
+                body.put("total_pages", (users.size() + PER_PAGE - 1) / PER_PAGE);
+                body.put("data", users.subList(from, to));
+                body.put("support", support());
+                StubHttp.sendJson(exchange, 200, body);
+            } else if ("POST".equals(method)) {
+                Map<String, Object> created = StubHttp.readJsonObject(exchange);
+                created.put("id", String.valueOf(nextId.incrementAndGet()));
+                created.put("createdAt", Instant.now().toString());
+                StubHttp.sendJson(exchange, 201, created);
+            } else {
+                StubHttp.notFound(exchange);
+            }
+            return;
+        }
+
+        Integer id = StubHttp.parseId(segments.get(1));
+        switch (method) {
+            case "GET":
+                Map<String, Object> user = id == null || id < 1 || id > users.size() ? null : users.get(id - 1);
+                if (user == null) {
+                    StubHttp.notFound(exchange);
+                } else {
+                    Map<String, Object> body = new LinkedHashMap<>();
+                    body.put("data", user);
+                    body.put("support", support());
+                    StubHttp.sendJson(exchange, 200, body);
+                }
+                break;
+            case "PUT":
+            case "PATCH":
+                Map<String, Object> updated = StubHttp.readJsonObject(exchange);
+                updated.put("updatedAt", Instant.now().toString());
+                StubHttp.sendJson(exchange, 200, updated);
+                break;
+            case "DELETE":
+                StubHttp.sendEmpty(exchange, 204);
+                break;
+            default:
+                StubHttp.notFound(exchange);
+        }
+    }
+
+    private void credentials(HttpExchange exchange, String method, boolean register) throws IOException {
+        if (!"POST".equals(method)) {
+            StubHttp.notFound(exchange);
+            return;
+        }
+        Map<String, Object> request = StubHttp.readJsonObject(exchange);
+        Object email = request.get("email");
+        if (email == null) {
+            StubHttp.sendJson(exchange, 400, Collections.singletonMap("error", "Missing email or username"));
+            return;
+        }
+        if (request.get("password") == null) {
+            StubHttp.sendJson(exchange, 400, Collections.singletonMap("error", "Missing password"));
+            return;
+        }
+        Map<String, Object> user = findByEmail(String.valueOf(email));
+        if (user == null) {
+            String error = register ? "Note: Only defined users succeed registration" : "user not found";
+            StubHttp.sendJson(exchange, 400, Collections.singletonMap("error", error));
+            return;
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (register) {
+            body.put("id", user.get("id"));
+        }
+        body.put("token", LOGIN_TOKEN);
+        StubHttp.sendJson(exchange, 200, body);
+    }
+
+    private Map<String, Object> findByEmail(String email) {
+        for (Map<String, Object> user : fixtures.reqResUsers()) {
+            if (email.equalsIgnoreCase(String.valueOf(user.get("email")))) {
+                return user;
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, Object> support() {
+        Map<String, Object> support = new LinkedHashMap<>();
+        support.put("url", "https://reqres.in/#support-heading");
+        support.put("text", "To keep ReqRes free, contributions towards server costs are appreciated!");
+        return support;
+    }
+}
@@ -0,0 +1,64 @@
+package com.restassured.practice.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST Countries v3.1 stand-in: /all, /name/{name} and /alpha/{code}
+ */
+class RestCountriesHandler extends StubHandler {
+
+    RestCountriesHandler(StubFixtures fixtures) {
+        super(fixtures);
+    }
+
+    @Override
+    protected void route(HttpExchange exchange, String method, List<String> segments) throws IOException {
+        if (!"GET".equals(method) || segments.isEmpty()) {
+            StubHttp.notFound(exchange);
+            return;
+        }
+        String resource = segments.get(0);
+        if ("all".equals(resource)) {
+            StubHttp.sendJson(exchange, 200, fixtures.countries());
+            return;
+        }
+        if (segments.size() != 2 || !("name".equals(resource) || "alpha".equals(resource))) {
+            StubHttp.notFound(exchange);
+            return;
+        }
+
+        String term = segments.get(1).toLowerCase();
+        List<Map<String, Object>> matches = new ArrayList<>();
+        for (Map<String, Object> country : fixtures.countries()) {
+            if ("name".equals(resource) ? nameMatches(country, term) : codeMatches(country, term)) {
+                matches.add(country);
+            }
+        }
+        if (matches.isEmpty()) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("status", 404);
+            body.put("message", "Not Found");
+            StubHttp.sendJson(exchange, 404, body);
+        } else {
+            StubHttp.sendJson(exchange, 200, matches);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean nameMatches(Map<String, Object> country, String term) {
+        Map<String, Object> name = (Map<String, Object>) country.get("name");
+        return String.valueOf(name.get("common")).toLowerCase().contains(term)
+                || String.valueOf(name.get("official")).toLowerCase().contains(term);
+    }
+
+    private static boolean codeMatches(Map<String, Object> country, String term) {
+        return term.equalsIgnoreCase(String.valueOf(country.get("cca2")))
+                || term.equalsIgnoreCase(String.valueOf(country.get("cca3")));
+    }
+}
@@ -0,0 +1,151 @@
+package com.restassured.practice.stub;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable fixture data served by the local stub server.
+ * Users, ReqRes users and countries come from classpath JSON under stub/;
+ * posts, comments, albums and todos are synthesized deterministically with
+ * the same shape and cardinality as JSONPlaceholder.
+ */
+final class StubFixtures {
+
+    private static final String[] WORDS = {
+            "sunt", "aut", "facere", "repellat", "provident", "occaecati", "excepturi", "optio",
+            "reprehenderit", "qui", "est", "esse", "ea", "molestias", "quasi", "voluptatem",
+            "dolorem", "eum", "magnam", "nesciunt", "rerum", "tempore", "vitae", "sequi"
+    };
+    private static final String[] DOMAINS = {"gardner.biz", "sydney.com", "jasper.info", "alysha.tv", "kiana.org"};
+
+    private final List<Map<String, Object>> users;
+    private final List<Map<String, Object>> posts;
+    private final List<Map<String, Object>> comments;
+    private final List<Map<String, Object>> albums;
+    private final List<Map<String, Object>> todos;
+    private final List<Map<String, Object>> reqResUsers;
+    private final List<Map<String, Object>> countries;
+
+    StubFixtures() {
+        this.users = load("stub/jsonplaceholder-users.json");
+        this.reqResUsers = load("stub/reqres-users.json");
+        this.countries = load("stub/countries.json");
+        this.posts = synthesizePosts();
+        this.comments = synthesizeComments();
+        this.albums = synthesizeAlbums();
+        this.todos = synthesizeTodos();
+    }
+
+    /**
+     * JSONPlaceholder collection by resource name, or null when unknown
+     */
+    List<Map<String, Object>> jsonPlaceholder(String resource) {
+        switch (resource) {
+            case "users":
+                return users;
+            case "posts":
+                return posts;
+            case "comments":
+                return comments;
+            case "albums":
+                return albums;
+            case "todos":
+                return todos;
+            default:
+                return null;
+        }
+    }
+
+    List<Map<String, Object>> reqResUsers() {
+        return reqResUsers;
+    }
+
+    List<Map<String, Object>> countries() {
+        return countries;
+    }
+
+    private static List<Map<String, Object>> load(String resource) {
+        try (InputStream in = StubFixtures.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Stub fixture not found on classpath: " + resource);
+            }
+            List<Map<String, Object>> items = StubHttp.MAPPER.readValue(in,
+                    new TypeReference<List<Map<String, Object>>>() { });
+            return Collections.unmodifiableList(items);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading stub fixture: " + resource, e);
+        }
+    }
+
+    private static List<Map<String, Object>> synthesizePosts() {
+        List<Map<String, Object>> items = new ArrayList<>(100);
+        for (int id = 1; id <= 100; id++) {
+            Map<String, Object> post = new LinkedHashMap<>();
+            post.put("userId", (id - 1) / 10 + 1);
+            post.put("id", id);
+            post.put("title", words(id, 6));
+            post.put("body", words(id * 7, 24));
+            items.add(post);
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    private static List<Map<String, Object>> synthesizeComments() {
+        List<Map<String, Object>> items = new ArrayList<>(500);
+        for (int id = 1; id <= 500; id++) {
+            String name = words(id * 3, 4);
+            Map<String, Object> comment = new LinkedHashMap<>();
+            comment.put("postId", (id - 1) / 5 + 1);
+            comment.put("id", id);
+            comment.put("name", name);
+            comment.put("email", WORDS[id % WORDS.length] + "_" + id + "@" + DOMAINS[id % DOMAINS.length]);
+            comment.put("body", words(id * 11, 18));
+            items.add(comment);
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    private static List<Map<String, Object>> synthesizeAlbums() {
+        List<Map<String, Object>> items = new ArrayList<>(100);
+        for (int id = 1; id <= 100; id++) {
+            Map<String, Object> album = new LinkedHashMap<>();
+            album.put("userId", (id - 1) / 10 + 1);
+            album.put("id", id);
+            album.put("title", words(id * 5, 4));
+            items.add(album);
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    private static List<Map<String, Object>> synthesizeTodos() {
+        List<Map<String, Object>> items = new ArrayList<>(200);
+        for (int id = 1; id <= 200; id++) {
+            Map<String, Object> todo = new LinkedHashMap<>();
+            todo.put("userId", (id - 1) / 20 + 1);
+            todo.put("id", id);
+            todo.put("title", words(id * 13, 5));
+            todo.put("completed", id % 3 == 0);
+            items.add(todo);
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    private static String words(int seed, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[Math.floorMod(seed * 31 + i * 17, WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package com.restassured.practice.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Base class for the per-API stub handlers.
+ * Turns unexpected failures into a 500 so a broken route shows up as a test
+ * failure instead of a hung connection.
+ */
+abstract class StubHandler implements HttpHandler {
+
+    protected final StubFixtures fixtures;
+
+    StubHandler(StubFixtures fixtures) {
+        this.fixtures = fixtures;
+    }
+
+    @Override
+    public final void handle(HttpExchange exchange) throws IOException {
+        try {
+            route(exchange, exchange.getRequestMethod().toUpperCase(), StubHttp.pathSegments(exchange));
+        } catch (RuntimeException e) {
+            StubHttp.sendJson(exchange, 500, Collections.singletonMap("error", String.valueOf(e.getMessage())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Dispatch a request; segments are relative to the API prefix
+     */
+    protected abstract void route(HttpExchange exchange, String method, List<String> segments) throws IOException;
+}
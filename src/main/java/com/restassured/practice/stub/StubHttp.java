@@ -0,0 +1,169 @@
+package com.restassured.practice.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Small request/response helpers shared by the stub handlers
+ */
+final class StubHttp {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private StubHttp() {
+    }
+
+    /**
+     * Path segments after the handler's context path, e.g. ["posts", "1", "comments"]
+     */
+    static List<String> pathSegments(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        String contextPath = exchange.getHttpContext().getPath();
+        String relative = path.substring(Math.min(contextPath.length(), path.length()));
+        List<String> segments = new ArrayList<>();
+        for (String segment : relative.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Decoded query parameters, preserving order and repeated keys
+     */
+    static Map<String, List<String>> queryParams(HttpExchange exchange) {
+        return parseUrlEncoded(exchange.getRequestURI().getRawQuery());
+    }
+
+    static Map<String, List<String>> parseUrlEncoded(String raw) {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        if (raw == null || raw.isEmpty()) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int eq = pair.indexOf('=');
+            String key = decode(eq < 0 ? pair : pair.substring(0, eq));
+            String value = eq < 0 ? "" : decode(pair.substring(eq + 1));
+            params.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+        }
+        return params;
+    }
+
+    /**
+     * HTTPBin style flattening: single values become strings, repeated values stay lists
+     */
+    static Map<String, Object> flatten(Map<String, List<String>> params) {
+        Map<String, Object> flat = new LinkedHashMap<>();
+        params.forEach((key, values) -> flat.put(key, values.size() == 1 ? values.get(0) : values));
+        return flat;
+    }
+
+    static String first(Map<String, List<String>> params, String key) {
+        List<String> values = params.get(key);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return in.readAllBytes();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> readJsonObject(HttpExchange exchange) throws IOException {
+        byte[] body = readBody(exchange);
+        if (body.length == 0) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            Object parsed = MAPPER.readValue(body, Object.class);
+            return parsed instanceof Map ? (Map<String, Object>) parsed : new LinkedHashMap<>();
+        } catch (JsonProcessingException e) {
+            return new LinkedHashMap<>();
+        }
+    }
+
+    static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        sendBytes(exchange, status, "application/json; charset=utf-8", MAPPER.writeValueAsBytes(body));
+    }
+
+    /**
+     * 200 with a weak ETag and the given Cache-Control, or 304 if If-None-Match already names that ETag
+     */
+    static void sendCacheableJson(HttpExchange exchange, Object body, String cacheControl) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        String etag = "W/\"" + Integer.toHexString(bytes.length) + "-" + Integer.toHexString(Arrays.hashCode(bytes)) + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Cache-Control", cacheControl);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            sendEmpty(exchange, 304);
+            return;
+        }
+        sendBytes(exchange, 200, "application/json; charset=utf-8", bytes);
+    }
+
+    static void sendBytes(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        if (body.length == 0) {
+            sendEmpty(exchange, status);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        // A -1 length drops or races the connection after the response, which breaks
+        // keep-alive clients; only 204/304 need it, other statuses send an empty chunked body
+        boolean noBody = status == 204 || status == 304;
+        exchange.sendResponseHeaders(status, noBody ? -1 : 0);
+        exchange.getResponseBody().close();
+    }
+
+    static void notFound(HttpExchange exchange) throws IOException {
+        sendJson(exchange, 404, new LinkedHashMap<>());
+    }
+
+    /**
+     * Title-case a header name the way HTTPBin echoes it back, e.g. "x-api-key" becomes "X-Api-Key"
+     */
+    static String canonicalHeaderName(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        boolean upper = true;
+        for (char c : name.toCharArray()) {
+            sb.append(upper ? Character.toUpperCase(c) : Character.toLowerCase(c));
+            upper = c == '-';
+        }
+        return sb.toString();
+    }
+
+    static Integer parseId(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -1,92 +1,168 @@
 package com.restassured.practice.utils;
 
+import com.restassured.practice.filters.ConnectionReleaseFilter;
+import com.restassured.practice.filters.CookieJarFilter;
+import com.restassured.practice.filters.LatencyFilter;
+import com.restassured.practice.filters.LoggingFilter;
+import com.restassured.practice.filters.MetricsFilter;
+import com.restassured.practice.filters.PreemptiveAuthFilter;
+import com.restassured.practice.filters.ResponseCacheFilter;
+import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.builder.ResponseSpecBuilder;
-import io.restassured.filter.log.LogDetail;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import static org.hamcrest.Matchers.lessThan;
 
 /**
  * Centralized API configuration class for REST Assured specifications
- * Provides reusable request and response specifications
+ * Provides reusable request and response specifications.
+ * Each spec is built once and cached in SpecRegistry; use
+ * SpecRegistry.derive(...) for per-test variations.
  */
 public class ApiConfig {
 
     /**
-     * Base request specification with common settings
+     * Filters applied to every request made through ApiConfig specs:
+     * logging per -Dapi.log, releasing pooled connections of bodies nobody reads,
+     * then per-route metrics and latency recording. With -Dapi.cache=true
+     * GET responses are also served from the shared ResponseCacheFilter.
+     */
+    public static List<Filter> getDefaultFilters() {
+        List<Filter> filters = new ArrayList<>(Arrays.asList(LoggingFilter.fromConfig(),
+                ConnectionReleaseFilter.shared(), MetricsFilter.shared(), LatencyFilter.shared()));
+        if (ConfigReader.isResponseCacheEnabled()) {
+            filters.add(0, ResponseCacheFilter.shared());
+        }
+        return Collections.unmodifiableList(filters);
+    }
+
+    /**
+     * REST Assured config whose HTTP clients share a keep-alive connection pool for baseUri
+     * (see ConnectionPools); connect and socket timeouts are ConfigReader.DEFAULT_TIMEOUT
+     */
+    public static RestAssuredConfig getRestAssuredConfig(String baseUri) {
+        return RestAssured.config().httpClient(ConnectionPools.httpClientConfig(baseUri));
+    }
+
+    /**
+     * Base request specification with common settings.
+     * Logging follows -Dapi.log (see LoggingFilter) instead of LogDetail.ALL,
+     * and requests are measured per route (see MetricsFilter and LatencyFilter).
      */
     public static RequestSpecification getDefaultRequestSpec(String baseUri) {
-        return new RequestSpecBuilder()
+        return SpecRegistry.request("default:" + baseUri, () -> new RequestSpecBuilder()
                 .setBaseUri(baseUri)
+                .setConfig(getRestAssuredConfig(baseUri))
                 .setContentType(ContentType.JSON)
                 .setAccept(ContentType.JSON)
-                .log(LogDetail.ALL)
-                .build();
+                .addFilters(getDefaultFilters())
+                .build());
+    }
+
+    /**
+     * Request specification for streaming large bodies: pooled connections and
+     * metrics like the default spec, but without LoggingFilter, which reads the
+     * whole body into memory to capture it, and without ConnectionReleaseFilter.
+     * Close or fully read every response body so its connection returns to the pool.
+     */
+    public static RequestSpecification getStreamingRequestSpec(String baseUri) {
+        return SpecRegistry.request("streaming:" + baseUri, () -> new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .setConfig(getRestAssuredConfig(baseUri))
+                .addFilter(MetricsFilter.shared())
+                .addFilter(LatencyFilter.shared())
+                .build());
     }
 
     /**
      * Request specification for JSONPlaceholder API
      */
     public static RequestSpecification getJsonPlaceholderRequestSpec() {
-        return getDefaultRequestSpec("https://jsonplaceholder.typicode.com");
+        return getDefaultRequestSpec(ConfigReader.getJsonPlaceholderBaseUrl());
     }
 
     /**
      * Request specification for ReqRes API
      */
     public static RequestSpecification getReqResRequestSpec() {
-        return getDefaultRequestSpec("https://reqres.in/api");
+        return getDefaultRequestSpec(ConfigReader.getReqResBaseUrl());
     }
 
     /**
      * Request specification for HTTPBin API
      */
     public static RequestSpecification getHttpBinRequestSpec() {
-        return getDefaultRequestSpec("https://httpbin.org");
+        return getDefaultRequestSpec(ConfigReader.getHttpBinBaseUrl());
     }
 
     /**
      * Request specification for REST Countries API
      */
     public static RequestSpecification getRestCountriesRequestSpec() {
-        return getDefaultRequestSpec("https://restcountries.com/v3.1");
+        return getDefaultRequestSpec(ConfigReader.getRestCountriesBaseUrl());
+    }
+
+    /**
+     * Default request specification for baseUri that keeps session cookies in the given jar,
+     * e.g. CookieJarFilter.named("admin") to share one session across tests
+     */
+    public static RequestSpecification getSessionRequestSpec(String baseUri, CookieJarFilter session) {
+        return SpecRegistry.derive(getDefaultRequestSpec(baseUri))
+                .addFilter(session)
+                .build();
+    }
+
+    /**
+     * Default request specification for baseUri that sends credentials with the first
+     * request instead of waiting for a 401, e.g. PreemptiveAuthFilter.digest(user, password);
+     * share the filter so digest challenges are reused
+     */
+    public static RequestSpecification getAuthRequestSpec(String baseUri, PreemptiveAuthFilter auth) {
+        return SpecRegistry.derive(getDefaultRequestSpec(baseUri))
+                .addFilter(auth)
+                .build();
     }
 
     /**
      * Default response specification
-     * Validates that response time is less than 5 seconds
+     * Each response must arrive within 5 s; percentiles per endpoint are checked
+     * at suite end by LatencyPercentileTest
      */
     public static ResponseSpecification getDefaultResponseSpec() {
-        return new ResponseSpecBuilder()
+        return SpecRegistry.response("default", () -> new ResponseSpecBuilder()
                 .expectResponseTime(lessThan(5000L))
-                .log(LogDetail.ALL)
-                .build();
+                .build());
     }
 
     /**
      * Success response specification (2xx status codes)
      */
     public static ResponseSpecification getSuccessResponseSpec() {
-        return new ResponseSpecBuilder()
+        return SpecRegistry.response("success", () -> new ResponseSpecBuilder()
                 .expectStatusCode(200)
                 .expectResponseTime(lessThan(3000L))
                 .expectContentType(ContentType.JSON)
-                .log(LogDetail.ALL)
-                .build();
+                .build());
     }
 
     /**
      * Created response specification (201 status code)
      */
     public static ResponseSpecification getCreatedResponseSpec() {
-        return new ResponseSpecBuilder()
+        return SpecRegistry.response("created", () -> new ResponseSpecBuilder()
                 .expectStatusCode(201)
                 .expectResponseTime(lessThan(3000L))
                 .expectContentType(ContentType.JSON)
-                .log(LogDetail.ALL)
-                .build();
+                .build());
     }
 }
@@ -0,0 +1,68 @@
+package com.restassured.practice.utils;
+
+import com.restassured.practice.filters.ConnectionReleaseFilter;
+import com.restassured.practice.filters.LatencyFilter;
+import com.restassured.practice.filters.MetricsFilter;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Per-thread request context replacing mutation of the global RestAssured.baseURI.
+ * Tests select an API with use(...) (typically from a @BeforeMethod, which TestNG
+ * runs on the same thread as the test method) and start requests with
+ * ApiContext.given() instead of RestAssured.given(), so parallel methods never
+ * see each other's base URI.
+ */
+public final class ApiContext {
+
+    private static final ThreadLocal<RequestSpecification> CURRENT = new ThreadLocal<>();
+
+    private ApiContext() {
+    }
+
+    /**
+     * Point this thread's requests at the given base URI over its pooled connections,
+     * recording metrics and latency per route. Bodies are not buffered, so
+     * asInputStream() streams straight from the connection.
+     */
+    public static void use(String baseUri) {
+        CURRENT.set(SpecRegistry.request("base:" + baseUri,
+                () -> new RequestSpecBuilder()
+                        .setBaseUri(baseUri)
+                        .setConfig(ApiConfig.getRestAssuredConfig(baseUri))
+                        .addFilter(ConnectionReleaseFilter.shared())
+                        .addFilter(MetricsFilter.shared())
+                        .addFilter(LatencyFilter.shared())
+                        .build()));
+    }
+
+    /**
+     * Use a full request specification (e.g. one from ApiConfig) for this thread's requests
+     */
+    public static void use(RequestSpecification spec) {
+        CURRENT.set(spec);
+    }
+
+    /**
+     * Specification bound to this thread, or null if none was selected
+     */
+    public static RequestSpecification current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Drop-in replacement for RestAssured.given() that applies this thread's specification
+     */
+    public static RequestSpecification given() {
+        RequestSpecification spec = CURRENT.get();
+        return spec == null ? RestAssured.given() : RestAssured.given().spec(spec);
+    }
+
+    /**
+     * Unbind this thread's specification; ApiContextListener does this after every test method
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
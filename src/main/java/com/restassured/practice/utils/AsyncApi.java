@@ -0,0 +1,333 @@
+package com.restassured.practice.utils;
+
+import com.restassured.practice.metrics.LatencyRecorder;
+import com.restassured.practice.metrics.MetricsRegistry;
+import com.restassured.practice.metrics.RouteMetrics;
+import com.restassured.practice.metrics.RouteTemplates;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.http.Cookie;
+import io.restassured.http.Cookies;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+import io.restassured.specification.QueryableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking requests returning CompletableFuture<Response>, for scenarios
+ * that fire independent calls together and compose their results instead of
+ * blocking on each round-trip:
+ *
+ * <pre>
+ * CompletableFuture&lt;Response&gt; user = AsyncApi.shared().get(spec, "/users/{id}", 1);
+ * CompletableFuture&lt;Response&gt; posts = user.thenCompose(u -&gt; AsyncApi.shared()
+ *         .get(spec, "/posts?userId=" + u.path("id")));
+ * </pre>
+ *
+ * Requests take their base URI, base path, headers, cookies, query and form
+ * params, content type and body from an existing specification (e.g. from
+ * ApiConfig) and are sent with java.net.http.HttpClient, whose selector thread serves
+ * every connection, so no thread waits for a response. The returned Response
+ * is a regular REST Assured response with its body already read: then(),
+ * path() and ApiConfig response specifications work on it as usual.
+ *
+ * Parameters are sent as given().when() would send them: a parameter with
+ * several values becomes a repeated key (id=1&amp;id=2), and param(...) is a
+ * query parameter for GET but a form parameter, URL-encoded into the body
+ * with formParam(...), for other methods. Form parameters and a body cannot
+ * be combined.
+ *
+ * The specification's filters do not run. Requests are recorded into the
+ * shared MetricsRegistry and LatencyRecorder directly, but logging, caching
+ * and auth filters do not apply; put auth headers on the spec instead.
+ */
+public final class AsyncApi {
+
+    /**
+     * Managed by HttpClient itself and rejected if set by the caller
+     */
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        Collections.addAll(RESTRICTED_HEADERS, "Connection", "Content-Length", "Expect", "Host", "Upgrade");
+    }
+
+    private static final AsyncApi SHARED = new AsyncApi(HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(ConfigReader.DEFAULT_TIMEOUT))
+            .build());
+
+    private final HttpClient client;
+    private final MetricsRegistry metrics;
+    private final LatencyRecorder latency;
+
+    public AsyncApi(HttpClient client) {
+        this(client, MetricsRegistry.shared(), LatencyRecorder.shared());
+    }
+
+    public AsyncApi(HttpClient client, MetricsRegistry metrics, LatencyRecorder latency) {
+        this.client = client;
+        this.metrics = metrics;
+        this.latency = latency;
+    }
+
+    /**
+     * Instance over one shared HttpClient, which keeps connections alive across requests
+     */
+    public static AsyncApi shared() {
+        return SHARED;
+    }
+
+    /**
+     * GET path relative to spec; "{name}" placeholders are replaced by pathParams in order
+     */
+    public CompletableFuture<Response> get(RequestSpecification spec, String path, Object... pathParams) {
+        return send(spec, "GET", path, null, pathParams);
+    }
+
+    public CompletableFuture<Response> post(RequestSpecification spec, String path, Object body, Object... pathParams) {
+        return send(spec, "POST", path, body, pathParams);
+    }
+
+    public CompletableFuture<Response> put(RequestSpecification spec, String path, Object body, Object... pathParams) {
+        return send(spec, "PUT", path, body, pathParams);
+    }
+
+    public CompletableFuture<Response> patch(RequestSpecification spec, String path, Object body, Object... pathParams) {
+        return send(spec, "PATCH", path, body, pathParams);
+    }
+
+    public CompletableFuture<Response> delete(RequestSpecification spec, String path, Object... pathParams) {
+        return send(spec, "DELETE", path, null, pathParams);
+    }
+
+    /**
+     * Send method to path relative to spec. body (String, byte[], or an object
+     * serialized to JSON) replaces the spec's body; null keeps it. The future
+     * completes on an HttpClient thread, or exceptionally if no response arrives
+     * within ConfigReader.DEFAULT_TIMEOUT.
+     */
+    public CompletableFuture<Response> send(RequestSpecification spec, String method, String path,
+                                            Object body, Object... pathParams) {
+        QueryableRequestSpecification query = SpecificationQuerier.query(spec);
+        boolean paramsInBody = !"GET".equalsIgnoreCase(method);
+        byte[] payload = serialize(body != null ? body : query.getBody());
+        String formBody = paramsInBody ? formBody(query) : null;
+        if (formBody != null) {
+            if (payload != null) {
+                throw new IllegalArgumentException("Send either form parameters or a body with " + method + " "
+                        + path + ", not both");
+            }
+            payload = formBody.getBytes(StandardCharsets.UTF_8);
+        }
+        HttpRequest request = buildRequest(query, method, expand(path, pathParams), payload, paramsInBody,
+                formBody != null);
+
+        // Like MetricsFilter, key by the path as written, without its query
+        String template = RouteTemplates.template(withoutQuery(path));
+        RouteMetrics route = metrics.route(method, template);
+        String endpoint = method + " " + template;
+        long sent = payload == null ? 0 : payload.length;
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    long elapsed = System.nanoTime() - start;
+                    if (error != null) {
+                        route.record(RouteMetrics.NO_RESPONSE, sent, 0, elapsed);
+                        throw error instanceof RuntimeException
+                                ? (RuntimeException) error : new IllegalStateException(error);
+                    }
+                    route.record(response.statusCode(), sent, response.body().length, elapsed);
+                    latency.record(endpoint, elapsed / 1_000);
+                    return toResponse(response, TimeUnit.NANOSECONDS.toMillis(elapsed));
+                });
+    }
+
+    private static HttpRequest buildRequest(QueryableRequestSpecification spec, String method, String path,
+                                            byte[] payload, boolean paramsInBody, boolean formEncoded) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(spec, path, paramsInBody))
+                .timeout(Duration.ofMillis(ConfigReader.DEFAULT_TIMEOUT))
+                .method(method, payload == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(payload));
+        for (Header header : spec.getHeaders()) {
+            boolean contentType = "Content-Type".equalsIgnoreCase(header.getName());
+            if (!RESTRICTED_HEADERS.contains(header.getName()) && !(formEncoded && contentType)) {
+                builder.header(header.getName(), header.getValue());
+            }
+        }
+        if (formEncoded) {
+            // The spec's content type (JSON for ApiConfig specs) describes a body, not form parameters
+            builder.header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8");
+        } else if (payload != null && spec.getContentType() != null
+                && !spec.getHeaders().hasHeaderWithName("Content-Type")) {
+            builder.header("Content-Type", spec.getContentType());
+        }
+        if (spec.getCookies().exist()) {
+            List<String> cookies = new ArrayList<>();
+            for (Cookie cookie : spec.getCookies()) {
+                cookies.add(cookie.getName() + "=" + cookie.getValue());
+            }
+            builder.header("Cookie", String.join("; ", cookies));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Query parameters, plus request parameters unless paramsInBody (then formBody sends them)
+     */
+    private static URI uri(QueryableRequestSpecification spec, String path, boolean paramsInBody) {
+        StringBuilder uri = new StringBuilder(stripTrailingSlash(spec.getBaseUri()));
+        String basePath = spec.getBasePath();
+        if (basePath != null && !basePath.isEmpty() && !"/".equals(basePath)) {
+            uri.append(basePath.startsWith("/") ? "" : "/").append(stripTrailingSlash(basePath));
+        }
+        uri.append(path.startsWith("/") ? "" : "/").append(path);
+
+        Map<String, Object> params = new LinkedHashMap<>(spec.getQueryParams());
+        if (!paramsInBody) {
+            params.putAll(spec.getRequestParams());
+        }
+        String query = urlEncode(params);
+        if (!query.isEmpty()) {
+            uri.append(path.indexOf('?') < 0 ? '?' : '&').append(query);
+        }
+        return URI.create(uri.toString());
+    }
+
+    /**
+     * Form and request parameters as an application/x-www-form-urlencoded body, or null if there are none
+     */
+    private static String formBody(QueryableRequestSpecification spec) {
+        Map<String, Object> params = new LinkedHashMap<>(spec.getFormParams());
+        params.putAll(spec.getRequestParams());
+        return params.isEmpty() ? null : urlEncode(params);
+    }
+
+    /**
+     * name=value pairs joined by "&amp;"; a collection value is sent as one pair per element
+     */
+    private static String urlEncode(Map<String, Object> params) {
+        StringBuilder encoded = new StringBuilder();
+        params.forEach((name, value) -> {
+            Iterable<?> values = value instanceof Iterable ? (Iterable<?>) value : Collections.singletonList(value);
+            for (Object single : values) {
+                encoded.append(encoded.length() == 0 ? "" : "&").append(encode(name)).append('=').append(encode(single));
+            }
+        });
+        return encoded.toString();
+    }
+
+    /**
+     * Replace each "{name}" placeholder in path with the next of values, URL-encoded
+     */
+    static String expand(String path, Object... values) {
+        StringBuilder expanded = new StringBuilder(path.length());
+        int next = 0;
+        int from = 0;
+        int open;
+        while ((open = path.indexOf('{', from)) >= 0) {
+            int close = path.indexOf('}', open);
+            if (close < 0) {
+                break;
+            }
+            if (next >= values.length) {
+                throw new IllegalArgumentException("No value for path parameter " + path.substring(open, close + 1)
+                        + " in " + path);
+            }
+            expanded.append(path, from, open).append(encode(values[next++]));
+            from = close + 1;
+        }
+        if (next < values.length) {
+            throw new IllegalArgumentException(values.length + " path parameters given but " + path
+                    + " has " + next + " placeholders");
+        }
+        return expanded.append(path.substring(from)).toString();
+    }
+
+    private static String withoutQuery(String path) {
+        int query = path.indexOf('?');
+        return query >= 0 ? path.substring(0, query) : path;
+    }
+
+    private static Response toResponse(HttpResponse<byte[]> response, long millis) {
+        List<Header> headers = new ArrayList<>();
+        List<Cookie> cookies = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> {
+            if (name.startsWith(":")) {
+                return; // HTTP/2 pseudo-headers
+            }
+            for (String value : values) {
+                headers.add(new Header(name, value));
+                if ("Set-Cookie".equalsIgnoreCase(name)) {
+                    for (HttpCookie cookie : HttpCookie.parse(value)) {
+                        cookies.add(new Cookie.Builder(cookie.getName(), cookie.getValue()).build());
+                    }
+                }
+            }
+        });
+        String version = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(version + " " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setCookies(new Cookies(cookies))
+                .setBody(response.body());
+        response.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return withResponseTime(builder.build(), millis);
+    }
+
+    /**
+     * Make time() report millis. ResponseBuilder has no setter for it: REST
+     * Assured keeps the time in the response's filter context properties, which
+     * only its internal RestAssuredResponseImpl exposes. This is the one place
+     * that depends on that class; if a response of another type is built,
+     * time() reports -1 as for any response without timing.
+     */
+    private static Response withResponseTime(Response response, long millis) {
+        if (response instanceof RestAssuredResponseImpl) {
+            ((RestAssuredResponseImpl) response).setFilterContextProperties(
+                    Collections.singletonMap(TimingFilter.RESPONSE_TIME_MILLISECONDS, millis));
+        }
+        return response;
+    }
+
+    private static byte[] serialize(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        String json = body instanceof String ? (String) body : JsonUtils.toJson(body);
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String encode(Object value) {
+        return URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static String stripTrailingSlash(String value) {
+        return value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+    }
+}
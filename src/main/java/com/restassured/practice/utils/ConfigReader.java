@@ -1,17 +1,231 @@
 package com.restassured.practice.utils;
 
+import com.restassured.practice.stub.LocalStubServer;
+
 public class ConfigReader {
-    
+
     // Base URLs for different APIs
     public static final String JSONPLACEHOLDER_BASE_URL = "https://jsonplaceholder.typicode.com";
     public static final String REQRES_BASE_URL = "https://reqres.in/api";
     public static final String HTTPBIN_BASE_URL = "https://httpbin.org";
     public static final String RESTCOUNTRIES_BASE_URL = "https://restcountries.com/v3.1";
-    
-    // Timeouts
+
+    // Target selection: "remote" uses the public APIs, "local" the embedded stub server
+    public static final String API_TARGET_PROPERTY = "api.target";
+    public static final String API_TARGET_REMOTE = "remote";
+    public static final String API_TARGET_LOCAL = "local";
+
+    // Request/response logging: "off", "failure" (only for failed tests), "sampled" or "full"
+    public static final String LOG_MODE_PROPERTY = "api.log";
+    public static final String DEFAULT_LOG_MODE = "failure";
+    public static final String LOG_SAMPLE_RATE_PROPERTY = "api.log.sample.rate";
+    public static final double DEFAULT_LOG_SAMPLE_RATE = 0.05;
+    public static final String LOG_QUEUE_CAPACITY_PROPERTY = "api.log.queue.capacity";
+    public static final int DEFAULT_LOG_QUEUE_CAPACITY = 1024;
+    public static final String LOG_MAX_BODY_PROPERTY = "api.log.max.body";
+    public static final int DEFAULT_LOG_MAX_BODY = 64 * 1024;
+
+    // Test data: a fixed seed makes TestDataGenerator output reproducible
+    public static final String TEST_DATA_SEED_PROPERTY = "testdata.seed";
+
+    // Threads for concurrent requests (RequestExecutors, LoadRunner): "platform" or "virtual" (Java 21+)
+    public static final String THREAD_MODE_PROPERTY = "api.threads";
+    public static final String THREAD_MODE_PLATFORM = "platform";
+    public static final String THREAD_MODE_VIRTUAL = "virtual";
+
+    // Load generation (LoadRunner): virtual users, target requests/sec, ramp-up and duration
+    public static final String LOAD_USERS_PROPERTY = "load.users";
+    public static final int DEFAULT_LOAD_USERS = 8;
+    public static final String LOAD_RPS_PROPERTY = "load.rps";
+    public static final double DEFAULT_LOAD_RPS = 50;
+    public static final String LOAD_RAMPUP_PROPERTY = "load.rampup.seconds";
+    public static final int DEFAULT_LOAD_RAMPUP = 1;
+    public static final String LOAD_DURATION_PROPERTY = "load.duration.seconds";
+    public static final int DEFAULT_LOAD_DURATION = 3;
+
+    // Latency: per-endpoint histograms exported at suite end, percentile limits (ms) for ApiConfig response specs
+    public static final String LATENCY_REPORT_PROPERTY = "api.latency.report";
+    public static final String DEFAULT_LATENCY_REPORT = "target/latency-histograms.json";
+    public static final String LATENCY_P50_PROPERTY = "api.latency.p50";
+    public static final String LATENCY_P95_PROPERTY = "api.latency.p95";
+    public static final long DEFAULT_LATENCY_P95 = 3000;
+    public static final String LATENCY_P99_PROPERTY = "api.latency.p99";
+    public static final long DEFAULT_LATENCY_P99 = 5000;
+    public static final String LATENCY_MIN_SAMPLES_PROPERTY = "api.latency.min.samples";
+    public static final int DEFAULT_LATENCY_MIN_SAMPLES = 20;
+
+    // Per-route metrics export: Prometheus text, or JSON if the path ends in .json
+    public static final String METRICS_REPORT_PROPERTY = "api.metrics.report";
+    public static final String DEFAULT_METRICS_REPORT = "target/api-metrics.prom";
+
+    // Timeouts (also connect, socket and pool-wait timeouts of the pooled HTTP client)
     public static final int DEFAULT_TIMEOUT = 5000;
-    
+
+    // HTTP connection pool per base URI (ConnectionPools), grown to the concurrency of fan-outs and load runs
+    public static final String HTTP_POOL_SIZE_PROPERTY = "api.http.pool.size";
+    public static final int DEFAULT_HTTP_POOL_SIZE = 20;
+    public static final String HTTP_KEEPALIVE_PROPERTY = "api.http.keepalive.ms";
+    public static final long DEFAULT_HTTP_KEEPALIVE = 15_000;
+    public static final String HTTP_IDLE_PROPERTY = "api.http.idle.ms";
+    public static final long DEFAULT_HTTP_IDLE = 10_000;
+
+    // GET response cache (ResponseCacheFilter), off unless api.cache=true
+    public static final String RESPONSE_CACHE_PROPERTY = "api.cache";
+    public static final String RESPONSE_CACHE_MAX_BYTES_PROPERTY = "api.cache.max.bytes";
+    public static final long DEFAULT_RESPONSE_CACHE_MAX_BYTES = 32L * 1024 * 1024;
+
+    // Auth token cache (TokenCache): lifetime of tokens without expires_in, and how early to refresh them
+    public static final String AUTH_TOKEN_TTL_PROPERTY = "api.auth.token.ttl.seconds";
+    public static final long DEFAULT_AUTH_TOKEN_TTL = 3600;
+    public static final String AUTH_REFRESH_AHEAD_PROPERTY = "api.auth.refresh.ahead.seconds";
+    public static final long DEFAULT_AUTH_REFRESH_AHEAD = 60;
+
     // Common headers
     public static final String CONTENT_TYPE_JSON = "application/json";
     public static final String ACCEPT_JSON = "application/json";
+
+    /**
+     * True when -Dapi.target=local redirects all base URLs to the embedded stub server
+     */
+    public static boolean isLocalTarget() {
+        return API_TARGET_LOCAL.equalsIgnoreCase(System.getProperty(API_TARGET_PROPERTY, API_TARGET_REMOTE));
+    }
+
+    public static String getJsonPlaceholderBaseUrl() {
+        return resolve(JSONPLACEHOLDER_BASE_URL, LocalStubServer.JSONPLACEHOLDER_PATH);
+    }
+
+    public static String getReqResBaseUrl() {
+        return resolve(REQRES_BASE_URL, LocalStubServer.REQRES_PATH);
+    }
+
+    public static String getHttpBinBaseUrl() {
+        return resolve(HTTPBIN_BASE_URL, LocalStubServer.HTTPBIN_PATH);
+    }
+
+    public static String getRestCountriesBaseUrl() {
+        return resolve(RESTCOUNTRIES_BASE_URL, LocalStubServer.RESTCOUNTRIES_PATH);
+    }
+
+    public static String getLogMode() {
+        return System.getProperty(LOG_MODE_PROPERTY, DEFAULT_LOG_MODE);
+    }
+
+    public static double getLogSampleRate() {
+        return Double.parseDouble(System.getProperty(LOG_SAMPLE_RATE_PROPERTY, String.valueOf(DEFAULT_LOG_SAMPLE_RATE)));
+    }
+
+    public static int getLogQueueCapacity() {
+        return Integer.getInteger(LOG_QUEUE_CAPACITY_PROPERTY, DEFAULT_LOG_QUEUE_CAPACITY);
+    }
+
+    public static int getLogMaxBody() {
+        return Integer.getInteger(LOG_MAX_BODY_PROPERTY, DEFAULT_LOG_MAX_BODY);
+    }
+
+    /**
+     * Seed from -Dtestdata.seed, or null for a random seed per run
+     */
+    public static Long getTestDataSeed() {
+        return Long.getLong(TEST_DATA_SEED_PROPERTY);
+    }
+
+    public static String getThreadMode() {
+        return System.getProperty(THREAD_MODE_PROPERTY, THREAD_MODE_PLATFORM);
+    }
+
+    public static String getLatencyReportPath() {
+        return System.getProperty(LATENCY_REPORT_PROPERTY, DEFAULT_LATENCY_REPORT);
+    }
+
+    public static int getHttpPoolSize() {
+        return Integer.getInteger(HTTP_POOL_SIZE_PROPERTY, DEFAULT_HTTP_POOL_SIZE);
+    }
+
+    public static long getHttpKeepAliveMillis() {
+        return Long.getLong(HTTP_KEEPALIVE_PROPERTY, DEFAULT_HTTP_KEEPALIVE);
+    }
+
+    public static long getHttpIdleMillis() {
+        return Long.getLong(HTTP_IDLE_PROPERTY, DEFAULT_HTTP_IDLE);
+    }
+
+    public static boolean isResponseCacheEnabled() {
+        return Boolean.getBoolean(RESPONSE_CACHE_PROPERTY);
+    }
+
+    public static long getResponseCacheMaxBytes() {
+        return Long.getLong(RESPONSE_CACHE_MAX_BYTES_PROPERTY, DEFAULT_RESPONSE_CACHE_MAX_BYTES);
+    }
+
+    public static long getAuthTokenTtlSeconds() {
+        return Long.getLong(AUTH_TOKEN_TTL_PROPERTY, DEFAULT_AUTH_TOKEN_TTL);
+    }
+
+    public static long getAuthRefreshAheadSeconds() {
+        return Long.getLong(AUTH_REFRESH_AHEAD_PROPERTY, DEFAULT_AUTH_REFRESH_AHEAD);
+    }
+
+    public static String getMetricsReportPath() {
+        return System.getProperty(METRICS_REPORT_PROPERTY, DEFAULT_METRICS_REPORT);
+    }
+
+    /**
+     * p50 limit in ms, or null if median latency is not checked
+     */
+    public static Long getLatencyP50() {
+        return System.getProperty(LATENCY_P50_PROPERTY) == null ? null : getLatencyLimit(LATENCY_P50_PROPERTY, 0);
+    }
+
+    public static long getLatencyP95() {
+        return getLatencyLimit(LATENCY_P95_PROPERTY, DEFAULT_LATENCY_P95);
+    }
+
+    public static long getLatencyP99() {
+        return getLatencyLimit(LATENCY_P99_PROPERTY, DEFAULT_LATENCY_P99);
+    }
+
+    public static int getLatencyMinSamples() {
+        return (int) getLatencyLimit(LATENCY_MIN_SAMPLES_PROPERTY, DEFAULT_LATENCY_MIN_SAMPLES);
+    }
+
+    public static int getLoadVirtualUsers() {
+        return Integer.getInteger(LOAD_USERS_PROPERTY, DEFAULT_LOAD_USERS);
+    }
+
+    public static double getLoadTargetRps() {
+        return Double.parseDouble(System.getProperty(LOAD_RPS_PROPERTY, String.valueOf(DEFAULT_LOAD_RPS)));
+    }
+
+    public static int getLoadRampUpSeconds() {
+        return Integer.getInteger(LOAD_RAMPUP_PROPERTY, DEFAULT_LOAD_RAMPUP);
+    }
+
+    public static int getLoadDurationSeconds() {
+        return Integer.getInteger(LOAD_DURATION_PROPERTY, DEFAULT_LOAD_DURATION);
+    }
+
+    /**
+     * Whole, non-negative number from a latency property; unlike Long.getLong, a value
+     * such as "0.5" or "3s" is rejected instead of silently falling back to the default
+     */
+    private static long getLatencyLimit(String property, long defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            long limit = Long.parseLong(value.trim());
+            if (limit >= 0 && limit <= Integer.MAX_VALUE) {
+                return limit;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new IllegalArgumentException("-D" + property + " must be a non-negative whole number, got '" + value + "'");
+    }
+
+    private static String resolve(String remoteUrl, String localPath) {
+        return isLocalTarget() ? LocalStubServer.shared().getBaseUrl() + localPath : remoteUrl;
+    }
 }
@@ -0,0 +1,243 @@
+package com.restassured.practice.utils;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpHost;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared, sized HTTP connection pools, one per base URI.
+ *
+ * By default REST Assured builds a new HttpClient with a single-connection
+ * manager for every request, so every call opens a fresh TCP (and TLS)
+ * connection. The HttpClientConfig returned here still creates a client per
+ * request (REST Assured mutates client state such as credentials, so sharing
+ * one client across threads is unsafe) but backs it with a pooled, keep-alive
+ * connection manager shared by all requests to the same base URI. Idle and
+ * expired connections are evicted by a background thread.
+ *
+ * A pool holds -Dapi.http.pool.size connections unless concurrent callers
+ * (RequestExecutors.fanOut, LoadRunner) ask for more with ensureCapacity(...);
+ * requests beyond the pool size would otherwise wait for a lease, and time out
+ * after ConfigReader.DEFAULT_TIMEOUT, instead of reaching the server.
+ *
+ * REST Assured only accepts AbstractHttpClient instances, hence the
+ * deprecated HttpClient 4.2-style classes.
+ */
+@SuppressWarnings("deprecation")
+public final class ConnectionPools {
+
+    private static final Map<String, CountingConnectionManager> POOLS = new ConcurrentHashMap<>();
+    private static final Map<String, HttpClientConfig> CONFIGS = new ConcurrentHashMap<>();
+    private static final AtomicInteger MIN_SIZE = new AtomicInteger();
+    private static ScheduledExecutorService evictor;
+
+    private ConnectionPools() {
+    }
+
+    /**
+     * HttpClientConfig whose clients share the pool for baseUri, with timeouts from ConfigReader.DEFAULT_TIMEOUT
+     */
+    public static HttpClientConfig httpClientConfig(String baseUri) {
+        return CONFIGS.computeIfAbsent(baseUri, key -> {
+            CountingConnectionManager pool = pool(baseUri);
+            long keepAliveMillis = ConfigReader.getHttpKeepAliveMillis();
+            return HttpClientConfig.httpClientConfig()
+                    .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, ConfigReader.DEFAULT_TIMEOUT)
+                    .setParam(CoreConnectionPNames.SO_TIMEOUT, ConfigReader.DEFAULT_TIMEOUT)
+                    .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, (long) ConfigReader.DEFAULT_TIMEOUT)
+                    .httpClientFactory(() -> {
+                        DefaultHttpClient client = new DefaultHttpClient(pool);
+                        client.setKeepAliveStrategy((response, context) -> {
+                            long fromServer = DefaultConnectionKeepAliveStrategy.INSTANCE
+                                    .getKeepAliveDuration(response, context);
+                            return fromServer > 0 ? Math.min(fromServer, keepAliveMillis) : keepAliveMillis;
+                        });
+                        return client;
+                    });
+        });
+    }
+
+    /**
+     * Grow every pool, and pools created later, to at least connections so that many
+     * requests can be in flight at once without waiting for a lease. Pools never shrink
+     * again during the run.
+     */
+    public static void ensureCapacity(int connections) {
+        MIN_SIZE.accumulateAndGet(connections, Math::max);
+        POOLS.values().forEach(pool -> pool.ensureSize(connections));
+    }
+
+    /**
+     * Lease and connection counts for the pool of baseUri, or null if it has not been used
+     */
+    public static Stats stats(String baseUri) {
+        CountingConnectionManager pool = POOLS.get(baseUri);
+        return pool == null ? null : pool.stats();
+    }
+
+    /**
+     * Stats for every pool, by base URI
+     */
+    public static Map<String, Stats> allStats() {
+        Map<String, Stats> stats = new TreeMap<>();
+        POOLS.forEach((baseUri, pool) -> stats.put(baseUri, pool.stats()));
+        return stats;
+    }
+
+    private static CountingConnectionManager pool(String baseUri) {
+        return POOLS.computeIfAbsent(baseUri, key -> {
+            CountingConnectionManager pool = new CountingConnectionManager(SchemeRegistryFactory.createDefault());
+            pool.ensureSize(Math.max(ConfigReader.getHttpPoolSize(), MIN_SIZE.get()));
+            startEvictor();
+            return pool;
+        });
+    }
+
+    private static synchronized void startEvictor() {
+        if (evictor != null) {
+            return;
+        }
+        long idleMillis = ConfigReader.getHttpIdleMillis();
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, idleMillis / 2);
+        evictor.scheduleAtFixedRate(() -> POOLS.values().forEach(pool -> {
+            pool.closeExpiredConnections();
+            pool.closeIdleConnections(idleMillis, TimeUnit.MILLISECONDS);
+        }), period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Connection reuse for one pool: every request leases a connection, and only
+     * misses open a new one
+     */
+    public static final class Stats {
+
+        private final long leases;
+        private final long newConnections;
+        private final int leased;
+        private final int available;
+        private final int max;
+
+        Stats(long leases, long newConnections, int leased, int available, int max) {
+            this.leases = leases;
+            this.newConnections = newConnections;
+            this.leased = leased;
+            this.available = available;
+            this.max = max;
+        }
+
+        public long getLeases() {
+            return leases;
+        }
+
+        public long getNewConnections() {
+            return newConnections;
+        }
+
+        /**
+         * Leases served by an already open connection
+         */
+        public long getPoolHits() {
+            return Math.max(0, leases - newConnections);
+        }
+
+        /**
+         * Connections currently in use
+         */
+        public int getLeased() {
+            return leased;
+        }
+
+        /**
+         * Idle connections kept alive for reuse
+         */
+        public int getAvailable() {
+            return available;
+        }
+
+        /**
+         * Connections the pool may open: -Dapi.http.pool.size, or more after ensureCapacity(...)
+         */
+        public int getMax() {
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d leases, %d pool hits, %d new connections (%d in use, %d idle, max %d)",
+                    leases, getPoolHits(), newConnections, leased, available, max);
+        }
+    }
+
+    private static final class CountingConnectionManager extends PoolingClientConnectionManager {
+
+        private final LongAdder leases = new LongAdder();
+        private final LongAdder newConnections = new LongAdder();
+
+        private CountingConnectionManager(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry);
+        }
+
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+            // Called from the super constructor; newConnections is only read once connections open
+            return new DefaultClientConnectionOperator(schemeRegistry) {
+                @Override
+                public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                                           HttpContext context, HttpParams params) throws IOException {
+                    newConnections.increment();
+                    super.openConnection(conn, target, local, context, params);
+                }
+            };
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            leases.increment();
+            return super.requestConnection(route, state);
+        }
+
+        private synchronized void ensureSize(int size) {
+            // A new manager allows 20 connections in total but only 2 per route
+            if (getMaxTotal() < size) {
+                setMaxTotal(size);
+            }
+            if (getDefaultMaxPerRoute() < size) {
+                setDefaultMaxPerRoute(size);
+            }
+        }
+
+        private Stats stats() {
+            return new Stats(leases.sum(), newConnections.sum(), getTotalStats().getLeased(),
+                    getTotalStats().getAvailable(), getMaxTotal());
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.restassured.practice.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Lazy TestNG data providers: each method returns an Iterator<Object[]> that
+ * builds one row at a time from a generator, a file or a FixtureStore, so a
+ * provider of a million rows needs no more memory than one of five.
+ *
+ * The iterators are safe to share between threads, so they also work with
+ * {@code @DataProvider(parallel = true)}. The source (file, stream) is
+ * closed as soon as the last row has been handed out.
+ *
+ * TestNG still keeps a result per invocation, and for a parallel provider
+ * it queues one task per row before the first one runs, so those rows are
+ * all held at once. For very large parallel runs keep rows small, e.g.
+ * indexes into a FixtureStore that the test resolves itself (see indexes).
+ */
+public final class DataProviders {
+
+    private DataProviders() {
+    }
+
+    /**
+     * One single-parameter row per element of values
+     */
+    public static Iterator<Object[]> of(Stream<?> values) {
+        return rows(values.map(value -> new Object[] {value}));
+    }
+
+    /**
+     * One row per element of rows; the stream is closed once it is exhausted
+     */
+    public static Iterator<Object[]> rows(Stream<Object[]> rows) {
+        return new RowIterator(rows);
+    }
+
+    /**
+     * count rows of one random User each (TestDataGenerator.users)
+     */
+    public static Iterator<Object[]> users(long count) {
+        return of(TestDataGenerator.users(count));
+    }
+
+    /**
+     * count rows of one random Post each (TestDataGenerator.posts)
+     */
+    public static Iterator<Object[]> posts(long count) {
+        return of(TestDataGenerator.posts(count));
+    }
+
+    /**
+     * Rows of {index} for every record of store, for tests that read the record themselves
+     */
+    public static Iterator<Object[]> indexes(FixtureStore store) {
+        return of(IntStream.range(0, store.size()).boxed());
+    }
+
+    /**
+     * One row per record of store, deserialized as type when the row is requested
+     */
+    public static <T> Iterator<Object[]> fixture(FixtureStore store, Class<T> type) {
+        return of(store.stream(type));
+    }
+
+    /**
+     * One row per record in [from, to) of store, deserialized as type when the row is requested
+     */
+    public static <T> Iterator<Object[]> fixture(FixtureStore store, int from, int to, Class<T> type) {
+        return of(store.stream(from, to, type));
+    }
+
+    /**
+     * One row per record of an NDJSON file, read sequentially without indexing it first
+     */
+    public static <T> Iterator<Object[]> ndjson(Path path, Class<T> type) {
+        return of(JsonUtils.streamNdjson(path, type));
+    }
+
+    /**
+     * One row of String parameters per line of a CSV file with a header line
+     */
+    public static Iterator<Object[]> csv(Path path) {
+        return csv(path, fields -> fields);
+    }
+
+    /**
+     * One row per line of a CSV file with a header line, converted by mapper
+     * (e.g. to parse numbers for int parameters)
+     */
+    public static Iterator<Object[]> csv(Path path, Function<String[], Object[]> mapper) {
+        try {
+            return csv(Files.newBufferedReader(path, StandardCharsets.UTF_8), mapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening CSV file: " + path, e);
+        }
+    }
+
+    /**
+     * Like csv(Path, mapper) for a CSV file on the test classpath, e.g. "data/endpoints.csv"
+     */
+    public static Iterator<Object[]> csvResource(String resource, Function<String[], Object[]> mapper) {
+        InputStream in = DataProviders.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalArgumentException("CSV resource not found on classpath: " + resource);
+        }
+        return csv(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), mapper);
+    }
+
+    private static Iterator<Object[]> csv(BufferedReader reader, Function<String[], Object[]> mapper) {
+        Stream<String> lines = reader.lines()
+                .skip(1)
+                .filter(line -> !line.isBlank())
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Error closing CSV file", e);
+                    }
+                });
+        return rows(lines.map(DataProviders::parseCsvLine).map(mapper));
+    }
+
+    /**
+     * Split one CSV line into fields. Fields may be double-quoted to contain
+     * commas, with "" for a literal quote; quoted line breaks are not supported.
+     */
+    static String[] parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * Pulls rows from a stream one at a time; hasNext and next are synchronized
+     * so parallel data providers can share it
+     */
+    private static final class RowIterator implements Iterator<Object[]> {
+
+        private final Stream<Object[]> source;
+        private final Iterator<Object[]> rows;
+        private boolean closed;
+
+        RowIterator(Stream<Object[]> source) {
+            this.source = source;
+            this.rows = source.iterator();
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            if (rows.hasNext()) {
+                return true;
+            }
+            closed = true;
+            source.close();
+            return false;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return rows.next();
+        }
+    }
+}
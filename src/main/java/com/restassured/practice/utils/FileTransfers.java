@@ -0,0 +1,299 @@
+package com.restassured.practice.utils;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.MultiPartSpecBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.MultiPartSpecification;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.SplittableRandom;
+
+/**
+ * Large file transfers that never hold the whole body in memory.
+ *
+ * Downloads stream the response body from the connection into a file with
+ * FileChannel.transferFrom, hashing each chunk on its way through, so the
+ * checksum and byte count are known without reading the file back. Use a
+ * request built from ApiConfig.getStreamingRequestSpec: with
+ * LoggingFilter in the spec the body is buffered before it reaches here.
+ *
+ * Uploads take multipart parts from streams, channels or generated data
+ * instead of files. A part's source is opened only when the request body is
+ * written and is sent with chunked transfer encoding, so no temp file or heap
+ * copy is needed, whatever the size.
+ */
+public final class FileTransfers {
+
+    public static final String DEFAULT_CHECKSUM = "SHA-256";
+
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+
+    private FileTransfers() {
+    }
+
+    /**
+     * GET baseUri + path into target using the streaming spec for baseUri
+     */
+    public static Download download(String baseUri, String path, Path target) {
+        return download(RestAssured.given().spec(ApiConfig.getStreamingRequestSpec(baseUri)), path, target,
+                DEFAULT_CHECKSUM);
+    }
+
+    /**
+     * GET path with request (e.g. with auth or query parameters added) into
+     * target, replacing it, and hash the body with checksumAlgorithm
+     */
+    public static Download download(RequestSpecification request, String path, Path target,
+                                    String checksumAlgorithm) {
+        MessageDigest digest = messageDigest(checksumAlgorithm);
+        Response response = request.get(path);
+        try (InputStream body = response.asInputStream()) {
+            if (response.getStatusCode() != 200) {
+                throw new IllegalStateException("Download of " + path + " failed with status "
+                        + response.getStatusCode());
+            }
+            long bytes;
+            try (ReadableByteChannel source = new DigestingChannel(Channels.newChannel(body), digest);
+                 FileChannel file = FileChannel.open(target, StandardOpenOption.CREATE,
+                         StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                bytes = 0;
+                long transferred;
+                while ((transferred = file.transferFrom(source, bytes, TRANSFER_CHUNK)) > 0) {
+                    bytes += transferred;
+                }
+            }
+            return new Download(target, bytes, toHex(digest.digest()), checksumAlgorithm,
+                    response.getContentType());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error downloading " + path + " to " + target, e);
+        }
+    }
+
+    /**
+     * Multipart file part read from the stream source opens when the request is sent
+     */
+    public static MultiPartSpecification part(String controlName, String fileName, String mimeType,
+                                              Source<? extends InputStream> source) {
+        return new MultiPartSpecBuilder(new LazyInputStream(source))
+                .controlName(controlName)
+                .fileName(fileName)
+                .mimeType(mimeType)
+                .build();
+    }
+
+    /**
+     * Multipart file part read from a channel, e.g. a FileChannel or a pipe
+     */
+    public static MultiPartSpecification channelPart(String controlName, String fileName, String mimeType,
+                                                     Source<? extends ReadableByteChannel> source) {
+        return part(controlName, fileName, mimeType, () -> Channels.newInputStream(source.open()));
+    }
+
+    /**
+     * Multipart text part of size synthetic bytes (see generated), for upload
+     * tests of any size without a fixture file
+     */
+    public static MultiPartSpecification generatedPart(String controlName, String fileName, long size, long seed) {
+        return part(controlName, fileName, "text/plain", () -> generated(size, seed));
+    }
+
+    /**
+     * size bytes of lowercase letters and digits from seed, produced as they are
+     * read; the same size and seed always give the same content
+     */
+    public static InputStream generated(long size, long seed) {
+        return new GeneratedInputStream(size, seed);
+    }
+
+    static MessageDigest messageDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("Unknown checksum algorithm: " + algorithm, e);
+        }
+    }
+
+    static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Opens a stream or channel for an upload part
+     */
+    @FunctionalInterface
+    public interface Source<T> {
+
+        T open() throws IOException;
+    }
+
+    /**
+     * Opens its source on first use, so building a request does not open files or connections
+     */
+    private static final class LazyInputStream extends InputStream {
+
+        private final Source<? extends InputStream> source;
+        private InputStream delegate;
+
+        private LazyInputStream(Source<? extends InputStream> source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return delegate().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return delegate().read(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (delegate != null) {
+                delegate.close();
+            }
+        }
+
+        private InputStream delegate() throws IOException {
+            if (delegate == null) {
+                delegate = source.open();
+            }
+            return delegate;
+        }
+    }
+
+    private static final class GeneratedInputStream extends InputStream {
+
+        private static final byte[] CHARS = "abcdefghijklmnopqrstuvwxyz0123456789".getBytes();
+
+        private final SplittableRandom random;
+        private long remaining;
+
+        private GeneratedInputStream(long size, long seed) {
+            this.random = new SplittableRandom(seed);
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return CHARS[random.nextInt(CHARS.length)];
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = (int) Math.min(len, remaining);
+            for (int i = 0; i < count; i++) {
+                b[off + i] = CHARS[random.nextInt(CHARS.length)];
+            }
+            remaining -= count;
+            return count;
+        }
+    }
+
+    /**
+     * Passes reads through and feeds every byte read into a digest
+     */
+    private static final class DigestingChannel implements ReadableByteChannel {
+
+        private final ReadableByteChannel delegate;
+        private final MessageDigest digest;
+
+        private DigestingChannel(ReadableByteChannel delegate, MessageDigest digest) {
+            this.delegate = delegate;
+            this.digest = digest;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            int start = dst.position();
+            int read = delegate.read(dst);
+            if (read > 0) {
+                ByteBuffer chunk = dst.duplicate();
+                chunk.position(start).limit(start + read);
+                digest.update(chunk);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    /**
+     * Outcome of a download: where it went, its size and checksum
+     */
+    public static final class Download {
+
+        private final Path path;
+        private final long bytes;
+        private final String checksum;
+        private final String checksumAlgorithm;
+        private final String contentType;
+
+        Download(Path path, long bytes, String checksum, String checksumAlgorithm, String contentType) {
+            this.path = path;
+            this.bytes = bytes;
+            this.checksum = checksum;
+            this.checksumAlgorithm = checksumAlgorithm;
+            this.contentType = contentType;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Lowercase hex checksum of the body
+         */
+        public String getChecksum() {
+            return checksum;
+        }
+
+        public String getChecksumAlgorithm() {
+            return checksumAlgorithm;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Override
+        public String toString() {
+            return path + " (" + bytes + " bytes, " + checksumAlgorithm + " " + checksum + ")";
+        }
+    }
+}
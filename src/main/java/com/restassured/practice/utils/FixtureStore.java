@@ -0,0 +1,185 @@
+package com.restassured.practice.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Read-only, memory-mapped store over a newline-delimited JSON (NDJSON)
+ * fixture file, e.g. one written by TestDataGenerator.writeUsers.
+ *
+ * On first open the file is mapped (in 1 GB segments, so files over 2 GB
+ * work) and scanned once to index the offset of every record. After that a
+ * lookup deserializes only the records asked for, straight from the page
+ * cache, so @DataProvider methods can pick single records, ranges or samples
+ * out of multi-GB datasets. Stores are cached per file and safe for
+ * concurrent use; the file must not change while it is open.
+ */
+public final class FixtureStore {
+
+    private static final Map<Path, FixtureStore> STORES = new ConcurrentHashMap<>();
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private final Path path;
+    private final long fileSize;
+    private final MappedByteBuffer[] segments;
+    private final long[] offsets;
+    private final int count;
+
+    private FixtureStore(Path path) {
+        this.path = path;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            fileSize = channel.size();
+            segments = new MappedByteBuffer[(int) ((fileSize + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = i * SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(SEGMENT_SIZE, fileSize - position));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error mapping fixture file: " + path, e);
+        }
+        long[] index = new long[1024];
+        int records = 0;
+        boolean atLineStart = true;
+        long position = 0;
+        for (MappedByteBuffer segment : segments) {
+            for (int i = 0, limit = segment.limit(); i < limit; i++, position++) {
+                byte b = segment.get(i);
+                if (b == '\n') {
+                    atLineStart = true;
+                } else if (atLineStart && b != '\r' && b != ' ' && b != '\t') {
+                    if (records == index.length) {
+                        index = Arrays.copyOf(index, records * 2);
+                    }
+                    index[records++] = position;
+                    atLineStart = false;
+                }
+            }
+        }
+        this.offsets = Arrays.copyOf(index, records);
+        this.count = records;
+    }
+
+    /**
+     * Store for an NDJSON file, mapped and indexed on first use
+     */
+    public static FixtureStore open(Path path) {
+        return STORES.computeIfAbsent(path.toAbsolutePath().normalize(), FixtureStore::new);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Number of records in the file
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Record at index (0-based), deserialized as type
+     */
+    public <T> T get(int index, Class<T> type) {
+        byte[] record = raw(index);
+        try {
+            return JsonUtils.readerFor(type).readValue(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid JSON in record " + index + " of " + path, e);
+        }
+    }
+
+    /**
+     * Record at index as a JSON tree
+     */
+    public JsonNode get(int index) {
+        return get(index, JsonNode.class);
+    }
+
+    /**
+     * Raw JSON bytes of the record at index, without the line terminator
+     */
+    public byte[] raw(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + count + " in " + path);
+        }
+        long start = offsets[index];
+        long end = index + 1 < count ? offsets[index + 1] : fileSize;
+        while (end > start && isWhitespace(byteAt(end - 1))) {
+            end--;
+        }
+        return read(start, (int) (end - start));
+    }
+
+    /**
+     * Records from (inclusive) to to (exclusive), deserialized as type
+     */
+    public <T> List<T> range(int from, int to, Class<T> type) {
+        checkRange(from, to);
+        List<T> records = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            records.add(get(i, type));
+        }
+        return records;
+    }
+
+    /**
+     * Lazy stream of the records from (inclusive) to to (exclusive); each record
+     * is deserialized when it is pulled, and the stream can be parallel
+     */
+    public <T> Stream<T> stream(int from, int to, Class<T> type) {
+        checkRange(from, to);
+        return LongStream.range(from, to).mapToObj(i -> get((int) i, type));
+    }
+
+    /**
+     * Lazy stream of every record
+     */
+    public <T> Stream<T> stream(Class<T> type) {
+        return stream(0, count, type);
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > count || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of " + count + " in " + path);
+        }
+    }
+
+    private byte byteAt(long position) {
+        return segments[(int) (position / SEGMENT_SIZE)].get((int) (position % SEGMENT_SIZE));
+    }
+
+    private byte[] read(long start, int length) {
+        byte[] bytes = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            long position = start + copied;
+            // duplicate() so concurrent readers never share a buffer position
+            ByteBuffer segment = segments[(int) (position / SEGMENT_SIZE)].duplicate();
+            segment.position((int) (position % SEGMENT_SIZE));
+            int chunk = Math.min(length - copied, segment.remaining());
+            segment.get(bytes, copied, chunk);
+            copied += chunk;
+        }
+        return bytes;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == '\n' || b == '\r' || b == ' ' || b == '\t';
+    }
+}
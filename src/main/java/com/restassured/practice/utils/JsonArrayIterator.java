@@ -0,0 +1,67 @@
+package com.restassured.practice.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Token-streaming iterator over the elements of a top-level JSON array.
+ * Only the current element is bound to an object; the parser never builds
+ * a tree of the whole document. Close it to release the underlying stream.
+ */
+public class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private JsonToken next;
+    private long index = -1;
+
+    JsonArrayIterator(JsonParser parser, ObjectReader reader) throws IOException {
+        this.parser = parser;
+        this.reader = reader;
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            JsonToken found = parser.currentToken();
+            parser.close();
+            throw new IllegalArgumentException("Expected a JSON array but found " + found);
+        }
+        this.next = parser.nextToken();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null && next != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            T value = reader.readValue(parser);
+            index++;
+            next = parser.nextToken();
+            return value;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading array element " + (index + 1), e);
+        }
+    }
+
+    /**
+     * Zero-based index of the element last returned by next(), or -1 before the first call
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
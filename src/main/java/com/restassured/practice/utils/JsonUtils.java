@@ -1,26 +1,86 @@
 package com.restassured.practice.utils;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Utility class for JSON operations
+ * Utility class for JSON operations.
+ * Output is compact by default (what goes over the wire); indentation is
+ * only applied by prettyPrint/toPrettyJson. Readers and writers are
+ * immutable and thread-safe, and are cached per target type so repeated
+ * calls skip Jackson's type resolution.
  */
 public class JsonUtils {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper()
-            .enable(SerializationFeature.INDENT_OUTPUT);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectWriter compactWriter = objectMapper.writer();
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    private static final ObjectReader treeReader = objectMapper.readerFor(JsonNode.class);
+
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    /**
+     * Shared mapper, for callers that need streaming or tree access
+     */
+    public static ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Cached compact writer for the given type
+     */
+    public static ObjectWriter writerFor(Class<?> clazz) {
+        return writers.computeIfAbsent(clazz, compactWriter::forType);
+    }
 
     /**
-     * Convert object to JSON string
+     * Cached reader for the given type
+     */
+    public static ObjectReader readerFor(Class<?> clazz) {
+        return readers.computeIfAbsent(clazz, objectMapper::readerFor);
+    }
+
+    /**
+     * Convert object to compact JSON string
      */
     public static String toJson(Object object) {
         try {
-            return objectMapper.writeValueAsString(object);
+            return object == null ? compactWriter.writeValueAsString(null)
+                    : writerFor(object.getClass()).writeValueAsString(object);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error converting object to JSON", e);
+        }
+    }
+
+    /**
+     * Convert object to indented JSON string, for display only
+     */
+    public static String toPrettyJson(Object object) {
+        try {
+            return prettyWriter.writeValueAsString(object);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Error converting object to JSON", e);
         }
@@ -31,7 +91,7 @@ public class JsonUtils {
      */
     public static <T> T fromJson(String json, Class<T> clazz) {
         try {
-            return objectMapper.readValue(json, clazz);
+            return readerFor(clazz).readValue(json);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Error converting JSON to object", e);
         }
@@ -42,18 +102,19 @@ public class JsonUtils {
      */
     public static <T> T readFromFile(String filePath, Class<T> clazz) {
         try {
-            return objectMapper.readValue(new File(filePath), clazz);
+            return readerFor(clazz).readValue(new File(filePath));
         } catch (IOException e) {
             throw new RuntimeException("Error reading JSON from file: " + filePath, e);
         }
     }
 
     /**
-     * Write object to JSON file
+     * Write object to JSON file (compact)
      */
     public static void writeToFile(Object object, String filePath) {
         try {
-            objectMapper.writeValue(new File(filePath), object);
+            ObjectWriter writer = object == null ? compactWriter : writerFor(object.getClass());
+            writer.writeValue(new File(filePath), object);
         } catch (IOException e) {
             throw new RuntimeException("Error writing JSON to file: " + filePath, e);
         }
@@ -64,10 +125,88 @@ public class JsonUtils {
      */
     public static String prettyPrint(String json) {
         try {
-            Object jsonObject = objectMapper.readValue(json, Object.class);
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonObject);
+            JsonNode tree = treeReader.readValue(json);
+            return prettyWriter.writeValueAsString(tree);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Error pretty printing JSON", e);
         }
     }
+
+    /**
+     * Iterate over the elements of a top-level JSON array one at a time.
+     * Only the current element is materialized, so memory stays constant
+     * regardless of array length. Closing the iterator closes the stream.
+     */
+    public static <T> JsonArrayIterator<T> iterateArray(InputStream in, Class<T> clazz) {
+        try {
+            return new JsonArrayIterator<>(objectMapper.getFactory().createParser(in), readerFor(clazz));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening JSON array stream", e);
+        }
+    }
+
+    /**
+     * Lazy, sequential Stream over a top-level JSON array; close it (try-with-resources) when done
+     */
+    public static <T> Stream<T> streamArray(InputStream in, Class<T> clazz) {
+        JsonArrayIterator<T> iterator = iterateArray(in, clazz);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Error closing JSON array stream", e);
+                    }
+                });
+    }
+
+    /**
+     * Lazy, sequential Stream over the records of an NDJSON file; only the current
+     * record is materialized. Close it (try-with-resources) when done.
+     */
+    public static <T> Stream<T> streamNdjson(Path path, Class<T> clazz) {
+        MappingIterator<T> iterator;
+        try {
+            iterator = readerFor(clazz).readValues(path.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening NDJSON file: " + path, e);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Error closing NDJSON file: " + path, e);
+                    }
+                });
+    }
+
+    /**
+     * Write each element of items as one compact JSON line (NDJSON) and return the number written.
+     * Elements are serialized as they are pulled from the stream, so it is never held in memory;
+     * a parallel stream is consumed in encounter order.
+     */
+    public static <T> long writeNdjson(Stream<? extends T> items, Class<T> clazz, Path path) {
+        ObjectWriter writer = writerFor(clazz).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (OutputStream out = Files.newOutputStream(path);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            Iterator<? extends T> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                count++;
+            }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing NDJSON to file: " + path, e);
+        } finally {
+            items.close();
+        }
+        return count;
+    }
 }
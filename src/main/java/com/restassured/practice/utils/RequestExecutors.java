@@ -0,0 +1,134 @@
+package com.restassured.practice.utils;
+
+import com.restassured.practice.filters.ConnectionReleaseFilter;
+import io.restassured.specification.RequestSpecification;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Executors for running blocking REST Assured calls concurrently.
+ *
+ * With -Dapi.threads=virtual on a Java 21+ runtime every task gets its own
+ * virtual thread, so thousands of requests can be in flight without thousands
+ * of OS threads; otherwise a fixed pool of daemon platform threads is used.
+ * Each request still needs a pooled connection (ConnectionPools, sized by
+ * -Dapi.http.pool.size), so fanOut grows the pools to its concurrency;
+ * otherwise requests past the pool size would queue for a lease and be
+ * timed, or time out, while waiting for one.
+ * The code compiles for Java 11, so the virtual-thread executor is looked up
+ * reflectively.
+ */
+public final class RequestExecutors {
+
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private RequestExecutors() {
+    }
+
+    /**
+     * True if the running JVM supports virtual threads (Java 21+)
+     */
+    public static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * True if -Dapi.threads=virtual is set and the JVM supports it
+     */
+    public static boolean isVirtualThreadMode() {
+        return ConfigReader.THREAD_MODE_VIRTUAL.equalsIgnoreCase(ConfigReader.getThreadMode())
+                && isVirtualThreadSupported();
+    }
+
+    /**
+     * A thread per task in virtual-thread mode, otherwise a fixed pool of platformThreads daemon threads
+     */
+    public static ExecutorService newExecutor(int platformThreads, String threadNamePrefix) {
+        if (isVirtualThreadMode()) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create virtual thread executor", e);
+            }
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(platformThreads, runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Run call(0..count-1) with at most maxConcurrency in flight and return the results in order.
+     * The calling thread's ApiContext is applied to every task; the first failure is rethrown.
+     * The connection pools are grown to the concurrency, see ConnectionPools.ensureCapacity.
+     */
+    public static <T> List<T> fanOut(int count, int maxConcurrency, IntFunction<T> call) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Request count must not be negative: " + count);
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1: " + maxConcurrency);
+        }
+        RequestSpecification context = ApiContext.current();
+        ConnectionPools.ensureCapacity(Math.min(count, maxConcurrency));
+        Semaphore inFlight = new Semaphore(maxConcurrency);
+        ExecutorService executor = newExecutor(Math.max(1, Math.min(count, maxConcurrency)), "fan-out-");
+        List<Future<T>> futures = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    inFlight.acquire();
+                    try {
+                        if (context != null) {
+                            ApiContext.use(context);
+                        }
+                        return call.apply(index);
+                    } finally {
+                        ConnectionReleaseFilter.releaseAll();
+                        ApiContext.clear();
+                        inFlight.release();
+                    }
+                }));
+            }
+            List<T> results = new ArrayList<>(count);
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for requests", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Method findVirtualThreadExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
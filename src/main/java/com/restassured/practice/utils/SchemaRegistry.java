@@ -0,0 +1,127 @@
+package com.restassured.practice.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Load-once cache of compiled JSON schemas from the classpath.
+ *
+ * REST Assured's matchesJsonSchemaInClasspath re-reads the schema file and
+ * builds a new schema factory and validator on every call. Here the factory
+ * is shared and each schema is compiled on first use; compiled JsonSchema
+ * instances are immutable and safe to use from parallel tests.
+ */
+public final class SchemaRegistry {
+
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.byDefault();
+    private static final Map<String, JsonNode> SCHEMA_NODES = new ConcurrentHashMap<>();
+    private static final Map<String, JsonSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    private SchemaRegistry() {
+    }
+
+    /**
+     * Compiled schema for a classpath resource such as "schemas/user-schema.json"
+     */
+    public static JsonSchema get(String pathToSchemaInClasspath) {
+        return get(pathToSchemaInClasspath, "");
+    }
+
+    /**
+     * Compiled sub-schema at a JSON pointer, e.g. "/items" for the element schema of an array schema
+     */
+    public static JsonSchema get(String pathToSchemaInClasspath, String pointer) {
+        return SCHEMAS.computeIfAbsent(pathToSchemaInClasspath + "#" + pointer,
+                key -> compile(pathToSchemaInClasspath, pointer));
+    }
+
+    /**
+     * Raw schema document, parsed once
+     */
+    public static JsonNode getSchemaNode(String pathToSchemaInClasspath) {
+        return SCHEMA_NODES.computeIfAbsent(pathToSchemaInClasspath, SchemaRegistry::load);
+    }
+
+    /**
+     * Validate a JSON document against a cached schema
+     */
+    public static ProcessingReport validate(String pathToSchemaInClasspath, JsonNode instance) {
+        try {
+            return get(pathToSchemaInClasspath).validate(instance);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("Error validating against schema: " + pathToSchemaInClasspath, e);
+        }
+    }
+
+    /**
+     * Drop-in replacement for JsonSchemaValidator.matchesJsonSchemaInClasspath backed by the cache
+     */
+    public static Matcher<String> matchesJsonSchemaInClasspath(String pathToSchemaInClasspath) {
+        return new CachedSchemaMatcher(pathToSchemaInClasspath);
+    }
+
+    private static JsonSchema compile(String pathToSchemaInClasspath, String pointer) {
+        try {
+            JsonNode schema = getSchemaNode(pathToSchemaInClasspath);
+            return pointer.isEmpty() ? FACTORY.getJsonSchema(schema) : FACTORY.getJsonSchema(schema, pointer);
+        } catch (ProcessingException e) {
+            throw new IllegalArgumentException("Invalid schema: " + pathToSchemaInClasspath + "#" + pointer, e);
+        }
+    }
+
+    private static JsonNode load(String pathToSchemaInClasspath) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try (InputStream in = classLoader.getResourceAsStream(pathToSchemaInClasspath)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Schema not found on classpath: " + pathToSchemaInClasspath);
+            }
+            return JsonUtils.getObjectMapper().readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading schema: " + pathToSchemaInClasspath, e);
+        }
+    }
+
+    private static final class CachedSchemaMatcher extends TypeSafeMatcher<String> {
+
+        private final String schemaPath;
+
+        private CachedSchemaMatcher(String schemaPath) {
+            this.schemaPath = schemaPath;
+        }
+
+        @Override
+        protected boolean matchesSafely(String content) {
+            return report(content).isSuccess();
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("The content to match the JSON schema ").appendText(schemaPath);
+        }
+
+        @Override
+        protected void describeMismatchSafely(String content, Description mismatchDescription) {
+            mismatchDescription.appendText(String.valueOf(report(content)));
+        }
+
+        private ProcessingReport report(String content) {
+            try {
+                return validate(schemaPath, JsonUtils.getObjectMapper().readTree(content));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Response body is not valid JSON", e);
+            }
+        }
+    }
+}
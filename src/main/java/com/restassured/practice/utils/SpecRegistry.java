@@ -0,0 +1,63 @@
+package com.restassured.practice.utils;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Build-once cache of named request and response specifications.
+ *
+ * Specs are built on first use and then shared by every thread. REST Assured
+ * copies a spec when it is applied with given().spec(...) or then().spec(...),
+ * so a shared spec is only ever read. Never call mutating methods such as
+ * header(...) on a registered spec; derive a builder instead.
+ */
+public final class SpecRegistry {
+
+    private static final Map<String, RequestSpecification> REQUEST_SPECS = new ConcurrentHashMap<>();
+    private static final Map<String, ResponseSpecification> RESPONSE_SPECS = new ConcurrentHashMap<>();
+
+    private SpecRegistry() {
+    }
+
+    /**
+     * Request specification registered under name, built by factory on first use
+     */
+    public static RequestSpecification request(String name, Supplier<RequestSpecification> factory) {
+        return REQUEST_SPECS.computeIfAbsent(name, key -> factory.get());
+    }
+
+    /**
+     * Response specification registered under name, built by factory on first use
+     */
+    public static ResponseSpecification response(String name, Supplier<ResponseSpecification> factory) {
+        return RESPONSE_SPECS.computeIfAbsent(name, key -> factory.get());
+    }
+
+    /**
+     * Builder pre-populated from a shared spec, for per-test overrides
+     */
+    public static RequestSpecBuilder derive(RequestSpecification base) {
+        return new RequestSpecBuilder().addRequestSpecification(base);
+    }
+
+    /**
+     * Builder pre-populated from a shared spec, for per-test overrides
+     */
+    public static ResponseSpecBuilder derive(ResponseSpecification base) {
+        return new ResponseSpecBuilder().addResponseSpecification(base);
+    }
+
+    /**
+     * Drop all cached specs, e.g. after changing logging or target configuration
+     */
+    public static void clear() {
+        REQUEST_SPECS.clear();
+        RESPONSE_SPECS.clear();
+    }
+}
@@ -0,0 +1,172 @@
+package com.restassured.practice.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.LogLevel;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Validates a top-level JSON array against an array schema one element at a time.
+ *
+ * Elements are parsed from the stream and checked against the schema's
+ * "items" sub-schema individually, so only one element tree is in memory at
+ * once. "minItems" and "maxItems" are checked from the running count;
+ * constraints that need the whole array ("uniqueItems", tuple-style "items")
+ * are not supported in this mode.
+ */
+public final class StreamingSchemaValidator {
+
+    private StreamingSchemaValidator() {
+    }
+
+    /**
+     * Validate the array read from in, stopping after maxViolations failing elements
+     */
+    public static Result validateArray(String pathToSchemaInClasspath, InputStream in, int maxViolations) {
+        JsonNode schema = SchemaRegistry.getSchemaNode(pathToSchemaInClasspath);
+        if (!schema.path("items").isObject()) {
+            throw new IllegalArgumentException("Streaming validation needs an array schema with an 'items' object: "
+                    + pathToSchemaInClasspath);
+        }
+        if (schema.path("uniqueItems").asBoolean(false)) {
+            throw new IllegalArgumentException("uniqueItems cannot be checked in streaming mode: "
+                    + pathToSchemaInClasspath);
+        }
+        JsonSchema itemSchema = SchemaRegistry.get(pathToSchemaInClasspath, "/items");
+
+        List<Violation> violations = new ArrayList<>();
+        long count = 0;
+        boolean stoppedEarly = false;
+        try (JsonArrayIterator<JsonNode> items = JsonUtils.iterateArray(in, JsonNode.class)) {
+            while (items.hasNext()) {
+                JsonNode item = items.next();
+                count++;
+                ProcessingReport report = itemSchema.validate(item);
+                if (!report.isSuccess()) {
+                    violations.add(new Violation(items.getIndex(), messages(report)));
+                    if (violations.size() >= maxViolations) {
+                        stoppedEarly = items.hasNext();
+                        break;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading JSON array for validation", e);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("Error validating against schema: " + pathToSchemaInClasspath, e);
+        }
+
+        if (!stoppedEarly) {
+            JsonNode minItems = schema.get("minItems");
+            JsonNode maxItems = schema.get("maxItems");
+            if (minItems != null && count < minItems.asLong()) {
+                violations.add(new Violation(-1, Collections.singletonList(
+                        "array has " + count + " items, fewer than minItems " + minItems.asLong())));
+            }
+            if (maxItems != null && count > maxItems.asLong()) {
+                violations.add(new Violation(-1, Collections.singletonList(
+                        "array has " + count + " items, more than maxItems " + maxItems.asLong())));
+            }
+        }
+        return new Result(count, violations, stoppedEarly);
+    }
+
+    private static List<String> messages(ProcessingReport report) {
+        List<String> messages = new ArrayList<>();
+        for (ProcessingMessage message : report) {
+            if (message.getLogLevel().compareTo(LogLevel.ERROR) >= 0) {
+                String pointer = message.asJson().path("instance").path("pointer").asText("");
+                messages.add((pointer.isEmpty() ? "" : pointer + ": ") + message.getMessage());
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Schema violation of one array element; index is -1 for array-level constraints
+     */
+    public static final class Violation {
+
+        private final long index;
+        private final List<String> messages;
+
+        Violation(long index, List<String> messages) {
+            this.index = index;
+            this.messages = Collections.unmodifiableList(messages);
+        }
+
+        public long getIndex() {
+            return index;
+        }
+
+        public List<String> getMessages() {
+            return messages;
+        }
+
+        @Override
+        public String toString() {
+            return (index < 0 ? "[array]" : "[" + index + "]") + " " + String.join("; ", messages);
+        }
+    }
+
+    /**
+     * Outcome of a streaming validation run
+     */
+    public static final class Result {
+
+        private final long itemCount;
+        private final List<Violation> violations;
+        private final boolean stoppedEarly;
+
+        Result(long itemCount, List<Violation> violations, boolean stoppedEarly) {
+            this.itemCount = itemCount;
+            this.violations = Collections.unmodifiableList(violations);
+            this.stoppedEarly = stoppedEarly;
+        }
+
+        public boolean isSuccess() {
+            return violations.isEmpty();
+        }
+
+        /**
+         * Elements read before validation finished or stopped
+         */
+        public long getItemCount() {
+            return itemCount;
+        }
+
+        public List<Violation> getViolations() {
+            return violations;
+        }
+
+        /**
+         * True if validation stopped at the violation limit before the end of the array
+         */
+        public boolean isStoppedEarly() {
+            return stoppedEarly;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(isSuccess() ? "valid" : violations.size() + " violation(s)")
+                    .append(" in ").append(itemCount).append(" item(s)");
+            if (stoppedEarly) {
+                sb.append(", stopped early");
+            }
+            for (Violation violation : violations) {
+                sb.append('\n').append(violation);
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -3,42 +3,88 @@ package com.restassured.practice.utils;
 import com.restassured.practice.models.Post;
 import com.restassured.practice.models.User;
 
-import java.util.Random;
-import java.util.UUID;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * Utility class for generating test data
+ * Each thread draws from its own SplittableRandom, split from a root generator,
+ * so parallel tests never contend on a shared Random or block on SecureRandom.
+ * Set -Dtestdata.seed for reproducible data: a single-threaded run then always
+ * produces the same sequence, and setSeed re-seeds the calling thread.
+ * Unique ids are random base-36 strings, not UUIDs.
+ * For bulk data, users()/posts() return lazy streams (parallel-capable) and
+ * writeUsers()/writePosts() stream records straight to an NDJSON file.
  */
 public class TestDataGenerator {
 
-    private static final Random random = new Random();
+    private static final SplittableRandom root = new SplittableRandom(initialSeed());
+    private static final ThreadLocal<SplittableRandom> threadRandom = ThreadLocal.withInitial(TestDataGenerator::split);
+    private static final char[] ID_CHARS = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int UNIQUE_ID_LENGTH = 8;
     private static final String[] FIRST_NAMES = {"John", "Jane", "Alice", "Bob", "Charlie", "Diana", "Eve", "Frank"};
     private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis"};
     private static final String[] DOMAINS = {"example.com", "test.com", "demo.com", "sample.com"};
+    private static final String[] FIRST_NAMES_LOWER = toLowerCase(FIRST_NAMES);
+    private static final String[] LAST_NAMES_LOWER = toLowerCase(LAST_NAMES);
 
     /**
      * Generate a random user with unique data
      */
     public static User generateRandomUser() {
-        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
-        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
-        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+        SplittableRandom random = random();
+        int first = random.nextInt(FIRST_NAMES.length);
+        int last = random.nextInt(LAST_NAMES.length);
+        String uniqueId = randomId(random, UNIQUE_ID_LENGTH);
         
         return User.builder()
-                .name(firstName + " " + lastName)
-                .username(firstName.toLowerCase() + uniqueId)
-                .email(firstName.toLowerCase() + "." + lastName.toLowerCase() + uniqueId + "@" + 
+                .name(FIRST_NAMES[first] + " " + LAST_NAMES[last])
+                .username(FIRST_NAMES_LOWER[first] + uniqueId)
+                .email(FIRST_NAMES_LOWER[first] + "." + LAST_NAMES_LOWER[last] + uniqueId + "@" + 
                        DOMAINS[random.nextInt(DOMAINS.length)])
                 .build();
     }
 
+    /**
+     * Lazy, sized stream of count random users; call parallel() on it to generate across cores
+     */
+    public static Stream<User> users(long count) {
+        return LongStream.range(0, count).mapToObj(i -> generateRandomUser());
+    }
+
+    /**
+     * Lazy, sized stream of count random posts; call parallel() on it to generate across cores
+     */
+    public static Stream<Post> posts(long count) {
+        return LongStream.range(0, count).mapToObj(i -> generateRandomPost());
+    }
+
+    /**
+     * Write count random users to an NDJSON file, one record per line, without holding them in memory
+     */
+    public static long writeUsers(Path path, long count) {
+        return JsonUtils.writeNdjson(users(count), User.class, path);
+    }
+
+    /**
+     * Write count random posts to an NDJSON file, one record per line, without holding them in memory
+     */
+    public static long writePosts(Path path, long count) {
+        return JsonUtils.writeNdjson(posts(count), Post.class, path);
+    }
+
     /**
      * Generate a random post with unique data
      */
     public static Post generateRandomPost() {
+        SplittableRandom random = random();
         return Post.builder()
-                .title("Test Post " + UUID.randomUUID().toString().substring(0, 8))
-                .body("This is a test post body with random content: " + UUID.randomUUID().toString())
+                .title("Test Post " + randomId(random, UNIQUE_ID_LENGTH))
+                .body("This is a test post body with random content: " + randomId(random, 24))
                 .userId(random.nextInt(10) + 1)
                 .build();
     }
@@ -47,7 +93,8 @@ public class TestDataGenerator {
      * Generate a random email address
      */
     public static String generateRandomEmail() {
-        return "user" + UUID.randomUUID().toString().substring(0, 8) + "@" + 
+        SplittableRandom random = random();
+        return "user" + randomId(random, UNIQUE_ID_LENGTH) + "@" + 
                DOMAINS[random.nextInt(DOMAINS.length)];
     }
 
@@ -56,6 +103,7 @@ public class TestDataGenerator {
      */
     public static String generateRandomString(int length) {
         String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+        SplittableRandom random = random();
         StringBuilder sb = new StringBuilder(length);
         for (int i = 0; i < length; i++) {
             sb.append(chars.charAt(random.nextInt(chars.length())));
@@ -67,6 +115,60 @@ public class TestDataGenerator {
      * Generate a random integer between min and max (inclusive)
      */
     public static int generateRandomInt(int min, int max) {
-        return random.nextInt((max - min) + 1) + min;
+        return random().nextInt(min, max + 1);
+    }
+
+    /**
+     * Generate a short random id (8 lowercase alphanumerics, ~41 bits)
+     */
+    public static String generateUniqueId() {
+        return randomId(random(), UNIQUE_ID_LENGTH);
+    }
+
+    /**
+     * Re-seed the calling thread's generator, e.g. to replay the data of one test
+     */
+    public static void setSeed(long seed) {
+        threadRandom.set(new SplittableRandom(seed));
+    }
+
+    private static SplittableRandom random() {
+        return threadRandom.get();
+    }
+
+    private static String randomId(SplittableRandom random, int length) {
+        char[] id = new char[length];
+        long bits = 0;
+        int remaining = 0;
+        for (int i = 0; i < length; i++) {
+            if (remaining == 0) {
+                // 36^12 < 2^63, so one draw yields 12 base-36 digits
+                bits = random.nextLong() >>> 1;
+                remaining = 12;
+            }
+            id[i] = ID_CHARS[(int) (bits % ID_CHARS.length)];
+            bits /= ID_CHARS.length;
+            remaining--;
+        }
+        return new String(id);
+    }
+
+    private static String[] toLowerCase(String[] values) {
+        String[] lower = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            lower[i] = values[i].toLowerCase(Locale.ROOT);
+        }
+        return lower;
+    }
+
+    private static long initialSeed() {
+        Long seed = ConfigReader.getTestDataSeed();
+        return seed != null ? seed : ThreadLocalRandom.current().nextLong();
+    }
+
+    private static SplittableRandom split() {
+        synchronized (root) {
+            return root.split();
+        }
     }
 }
@@ -1,10 +1,19 @@
 package com.restassured.practice.tests;
 
+import com.restassured.practice.filters.ResponseCacheFilter;
+import com.restassured.practice.metrics.LatencyRecorder;
 import com.restassured.practice.utils.ApiConfig;
+import com.restassured.practice.utils.AsyncApi;
+import com.restassured.practice.utils.TestDataGenerator;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
 /**
@@ -77,6 +86,69 @@ public class AdvancedRequestSpecTest {
             .body("[0].userId", equalTo(userId));
     }
 
+    @Test(description = "Independent requests run concurrently and dependent ones are composed")
+    public void testAsyncPipelinedRequests() {
+        RequestSpecification spec = ApiConfig.getJsonPlaceholderRequestSpec();
+        AsyncApi api = AsyncApi.shared();
+
+        // Both requests are in flight before either response arrives
+        CompletableFuture<Response> user = api.get(spec, "/users/{id}", 1);
+        CompletableFuture<Response> comment = api.get(spec, "/comments/{id}", 1);
+
+        // The posts request starts as soon as the user's id is known
+        CompletableFuture<Response> posts = user.thenCompose(response ->
+                api.get(spec, "/posts?userId={userId}", response.<Integer>path("id")));
+        CompletableFuture<Response> created = api.post(spec, "/posts",
+                TestDataGenerator.generateRandomPost());
+
+        CompletableFuture.allOf(posts, comment, created).join();
+
+        user.join().then()
+            .spec(ApiConfig.getSuccessResponseSpec())
+            .body("id", equalTo(1));
+        posts.join().then()
+            .spec(ApiConfig.getSuccessResponseSpec())
+            .body("userId", everyItem(equalTo(1)));
+        comment.join().then()
+            .spec(ApiConfig.getSuccessResponseSpec())
+            .body("postId", equalTo(1));
+        created.join().then()
+            .spec(ApiConfig.getCreatedResponseSpec())
+            .body("id", notNullValue());
+
+        // Recorded under route templates, without the query
+        assertThat(user.join().time(), greaterThanOrEqualTo(0L));
+        assertThat(LatencyRecorder.shared().getAll(), hasKey("GET /users/{id}"));
+        assertThat(LatencyRecorder.shared().getAll(), hasKey("GET /posts"));
+        assertThat(LatencyRecorder.shared().getAll().keySet(), everyItem(not(containsString("?"))));
+    }
+
+    @Test(description = "Async requests send params like the synchronous API")
+    public void testAsyncRequestParams() {
+        AsyncApi api = AsyncApi.shared();
+
+        // A multi-valued query param becomes a repeated key, param() is a query param for GET
+        Response get = api.get(given()
+                .spec(ApiConfig.getHttpBinRequestSpec())
+                .queryParam("id", Arrays.asList(1, 2))
+                .param("sort", "asc"), "/get").join();
+        get.then()
+            .statusCode(200)
+            .body("args.id", contains("1", "2"))
+            .body("args.sort", equalTo("asc"));
+
+        // For POST, param() and formParam() are form-encoded into the body
+        Response post = api.post(given()
+                .spec(ApiConfig.getHttpBinRequestSpec())
+                .param("name", "John Doe")
+                .formParam("tag", Arrays.asList("a", "b")), "/post", null).join();
+        post.then()
+            .statusCode(200)
+            .body("args", anEmptyMap())
+            .body("form.name", equalTo("John Doe"))
+            .body("form.tag", contains("a", "b"));
+    }
+
     @Test(description = "Test REST Countries API with custom spec")
     public void testRestCountriesApi() {
         given()
@@ -89,4 +161,92 @@ public class AdvancedRequestSpecTest {
             .body("[0].capital[0]", equalTo("New Delhi"))
             .body("[0].region", equalTo("Asia"));
     }
+
+    @Test(description = "Repeated GETs of a fixture are served from the response cache")
+    public void testResponseCacheServesRepeatedGets() {
+        ResponseCacheFilter cache = new ResponseCacheFilter(1024 * 1024);
+
+        for (int i = 0; i < 3; i++) {
+            given()
+                .spec(ApiConfig.getJsonPlaceholderRequestSpec())
+                .filter(cache)
+            .when()
+                .get("/users/1")
+            .then()
+                .spec(ApiConfig.getSuccessResponseSpec())
+                .body("id", equalTo(1));
+        }
+
+        // A successful write to the URL drops its cached GET
+        given()
+            .spec(ApiConfig.getJsonPlaceholderRequestSpec())
+            .filter(cache)
+            .body("{\"name\": \"Updated\"}")
+        .when()
+            .put("/users/1")
+        .then()
+            .statusCode(200);
+
+        given()
+            .spec(ApiConfig.getJsonPlaceholderRequestSpec())
+            .filter(cache)
+        .when()
+            .get("/users/1")
+        .then()
+            .statusCode(200);
+
+        System.out.println("Response cache: " + cache);
+        assert cache.getHits() == 2;
+        assert cache.getMisses() == 2;
+    }
+
+    @Test(description = "Stale responses are revalidated with If-None-Match and LRU-evicted by size")
+    public void testResponseCacheRevalidationAndEviction() {
+        ResponseCacheFilter cache = new ResponseCacheFilter(1024 * 1024);
+
+        for (int i = 0; i < 3; i++) {
+            given()
+                .spec(ApiConfig.getHttpBinRequestSpec())
+                .filter(cache)
+            .when()
+                .get("/etag/fixture-v1")
+            .then()
+                .statusCode(200)
+                .body("args", anEmptyMap());
+        }
+        assert cache.getMisses() == 1;
+        assert cache.getRevalidations() == 2;
+
+        // Measure two users' entries (headers differ between the stub and the real service),
+        // then leave room for one of them only: caching the second evicts the first
+        ResponseCacheFilter probe = new ResponseCacheFilter(1024 * 1024);
+        long[] sizes = new long[2];
+        for (int id = 1; id <= 2; id++) {
+            long before = probe.getSizeBytes();
+            given()
+                .spec(ApiConfig.getJsonPlaceholderRequestSpec())
+                .filter(probe)
+            .when()
+                .get("/users/" + id)
+            .then()
+                .statusCode(200);
+            sizes[id - 1] = probe.getSizeBytes() - before;
+        }
+        assert sizes[0] > 0 && sizes[1] > 0;
+        long maxBytes = Math.max(sizes[0], sizes[1]) + Math.min(sizes[0], sizes[1]) / 2;
+
+        ResponseCacheFilter small = new ResponseCacheFilter(maxBytes);
+        for (int id = 1; id <= 2; id++) {
+            given()
+                .spec(ApiConfig.getJsonPlaceholderRequestSpec())
+                .filter(small)
+            .when()
+                .get("/users/" + id)
+            .then()
+                .statusCode(200);
+        }
+        assert small.getEntryCount() == 1;
+        assert small.getEvictions() == 1;
+        assert small.getSizeBytes() <= maxBytes;
+    }
 }
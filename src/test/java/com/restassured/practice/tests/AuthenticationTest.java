@@ -1,27 +1,46 @@
 package com.restassured.practice.tests;
 
-import io.restassured.RestAssured;
-import org.testng.annotations.BeforeClass;
+import com.restassured.practice.auth.Token;
+import com.restassured.practice.auth.TokenCache;
+import com.restassured.practice.auth.TokenProvider;
+import com.restassured.practice.filters.BearerTokenFilter;
+import com.restassured.practice.filters.PreemptiveAuthFilter;
+import com.restassured.practice.utils.ApiConfig;
+import com.restassured.practice.utils.ApiContext;
+import com.restassured.practice.utils.ConfigReader;
+import com.restassured.practice.utils.RequestExecutors;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.restassured.practice.utils.ApiContext.given;
 import static io.restassured.RestAssured.*;
 import static org.hamcrest.Matchers.*;
 
 /**
  * Authentication Examples
- * Topics: Basic Auth, Bearer Token, API Key authentication
+ * Topics: Basic Auth, Bearer Token, API Key authentication, Cached login tokens, Preemptive digest
  */
 public class AuthenticationTest {
 
-    @BeforeClass
+    // Shared so the digest challenge is answered preemptively after the first request
+    private static final PreemptiveAuthFilter BASIC = PreemptiveAuthFilter.basic("user", "passwd");
+    private static final PreemptiveAuthFilter DIGEST = PreemptiveAuthFilter.digest("user", "passwd");
+
+    @BeforeMethod
     public void setup() {
-        RestAssured.baseURI = "https://httpbin.org";
+        ApiContext.use(ConfigReader.getHttpBinBaseUrl());
     }
 
     @Test(description = "Basic Authentication - Success")
     public void testBasicAuthSuccess() {
+        ApiContext.use(ApiConfig.getAuthRequestSpec(ConfigReader.getHttpBinBaseUrl(), BASIC));
+
         given()
-            .auth().basic("user", "passwd")
             .log().all()
         .when()
             .get("/basic-auth/user/passwd")
@@ -104,8 +123,9 @@ public class AuthenticationTest {
 
     @Test(description = "Digest Authentication")
     public void testDigestAuth() {
+        ApiContext.use(ApiConfig.getAuthRequestSpec(ConfigReader.getHttpBinBaseUrl(), DIGEST));
+
         given()
-            .auth().digest("user", "passwd")
         .when()
             .get("/digest-auth/auth/user/passwd")
         .then()
@@ -114,6 +134,37 @@ public class AuthenticationTest {
             .body("user", equalTo("user"));
     }
 
+    @Test(description = "Preemptive Basic Authentication filter")
+    public void testPreemptiveBasicAuthFilter() {
+        // hidden-basic-auth answers 404 instead of a challenge, so this only passes preemptively
+        given()
+            .filter(PreemptiveAuthFilter.basic("user", "passwd"))
+        .when()
+            .get("/hidden-basic-auth/user/passwd")
+        .then()
+            .statusCode(200)
+            .body("authenticated", equalTo(true));
+    }
+
+    @Test(description = "Digest Authentication - cached challenge answered preemptively")
+    public void testPreemptiveDigestAuth() {
+        PreemptiveAuthFilter digest = PreemptiveAuthFilter.digest("user", "passwd");
+
+        for (int i = 0; i < 5; i++) {
+            given()
+                .filter(digest)
+            .when()
+                .get("/digest-auth/auth/user/passwd")
+            .then()
+                .statusCode(200)
+                .body("authenticated", equalTo(true))
+                .body("user", equalTo("user"));
+        }
+
+        // Only the first request was challenged; the other four went through in one round-trip
+        assert digest.getChallengeCount() == 1;
+    }
+
     @Test(description = "No Authentication - Unauthorized")
     public void testNoAuthentication() {
         given()
@@ -125,7 +176,7 @@ public class AuthenticationTest {
 
     @Test(description = "Authentication with ReqRes - Register")
     public void testReqResRegister() {
-        RestAssured.baseURI = "https://reqres.in/api";
+        ApiContext.use(ConfigReader.getReqResBaseUrl());
 
         String requestBody = "{\n" +
                 "  \"email\": \"eve.holt@reqres.in\",\n" +
@@ -145,7 +196,7 @@ public class AuthenticationTest {
 
     @Test(description = "Authentication with ReqRes - Login")
     public void testReqResLogin() {
-        RestAssured.baseURI = "https://reqres.in/api";
+        ApiContext.use(ConfigReader.getReqResBaseUrl());
 
         String requestBody = "{\n" +
                 "  \"email\": \"eve.holt@reqres.in\",\n" +
@@ -168,9 +219,51 @@ public class AuthenticationTest {
         assert token != null && !token.isEmpty();
     }
 
+    @Test(description = "Login token acquired once and shared by parallel requests")
+    public void testCachedLoginToken() {
+        TokenCache cache = new TokenCache(Duration.ofSeconds(60));
+        TokenProvider login = TokenProvider.login(ConfigReader.getReqResBaseUrl(), "/login",
+                Map.of("email", "eve.holt@reqres.in", "password", "cityslicka"), "token");
+        BearerTokenFilter auth = new BearerTokenFilter(cache, "reqres:eve.holt@reqres.in", login);
+
+        List<String> tokens = RequestExecutors.fanOut(8, 4, i ->
+            given()
+                .filter(auth)
+            .when()
+                .get("/bearer")
+            .then()
+                .statusCode(200)
+                .body("authenticated", equalTo(true))
+                .extract()
+                .path("token"));
+
+        System.out.println("Bearer tokens: " + tokens.size() + " requests, " + cache.getAcquisitions() + " login(s)");
+        assert cache.getAcquisitions() == 1;
+        assert tokens.stream().distinct().count() == 1;
+        assert !tokens.get(0).isEmpty();
+    }
+
+    @Test(description = "Token close to expiry is refreshed in the background")
+    public void testTokenRefreshAhead() throws InterruptedException {
+        AtomicInteger logins = new AtomicInteger();
+        TokenProvider provider = () -> Token.of("token-" + logins.incrementAndGet(), Duration.ofSeconds(2));
+        TokenCache cache = new TokenCache(Duration.ofSeconds(60));
+
+        assert cache.get("user", provider).getValue().equals("token-1");
+
+        // Within the refresh window (capped at half the 2 s lifetime): old token served, new one fetched
+        Thread.sleep(1100);
+        assert cache.get("user", provider).getValue().equals("token-1");
+        for (int i = 0; i < 50 && cache.getAcquisitions() < 2; i++) {
+            Thread.sleep(20);
+        }
+        assert cache.get("user", provider).getValue().equals("token-2");
+        assert logins.get() == 2;
+    }
+
     @Test(description = "Failed Login - Missing Password")
     public void testFailedLogin() {
-        RestAssured.baseURI = "https://reqres.in/api";
+        ApiContext.use(ConfigReader.getReqResBaseUrl());
 
         String requestBody = "{\n" +
                 "  \"email\": \"peter@klaven\"\n" +
@@ -1,23 +1,31 @@
 package com.restassured.practice.tests;
 
-import io.restassured.RestAssured;
+import com.restassured.practice.metrics.LatencyHistogram;
+import com.restassured.practice.metrics.LatencyRecorder;
+import com.restassured.practice.metrics.LatencyThresholds;
+import com.restassured.practice.metrics.MetricsRegistry;
+import com.restassured.practice.metrics.RouteMetrics;
+import com.restassured.practice.utils.ApiContext;
+import com.restassured.practice.utils.ConfigReader;
+import com.restassured.practice.utils.ConnectionPools;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
-import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import static com.restassured.practice.utils.ApiContext.given;
 import static io.restassured.RestAssured.*;
 import static org.hamcrest.Matchers.*;
 
 /**
  * Basic GET Request Examples
- * Topics: Simple GET, Response validation, Status codes, Response time
+ * Topics: Simple GET, Response validation, Status codes, Response time, Latency percentiles, Route metrics, Connection reuse
  */
 public class BasicGetRequestTest {
 
-    @BeforeClass
+    @BeforeMethod
     public void setup() {
-        RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
+        ApiContext.use(ConfigReader.getJsonPlaceholderBaseUrl());
     }
 
     @Test(description = "Simple GET request - Get all posts")
@@ -59,6 +67,64 @@ public class BasicGetRequestTest {
             .statusCode(200);
     }
 
+    @Test(description = "Validate response time percentiles across repeated requests")
+    public void testResponseTimePercentiles() {
+        LatencyThresholds thresholds = LatencyThresholds.percentiles()
+                .p50(1000)
+                .p95(3000)
+                .p99(5000)
+                .minSamples(20);
+
+        for (int id = 1; id <= 30; id++) {
+            given()
+                .pathParam("id", id)
+            .when()
+                .get("/todos/{id}")
+            .then()
+                .statusCode(200)
+                .time(thresholds);
+        }
+
+        LatencyHistogram histogram = LatencyRecorder.shared().get("GET /todos/{id}");
+        assert thresholds.getHistogram().getCount() == 30;
+        assert histogram != null && histogram.getCount() >= 30;
+        System.out.println("GET /todos/{id} p95: " + histogram.getValueAtPercentile(95) / 1000.0 + " ms");
+    }
+
+    @Test(description = "Requests to concrete URLs are counted under their route template")
+    public void testRouteMetrics() {
+        for (int id : new int[]{1, 2, 999999}) {
+            given()
+            .when()
+                .get("/albums/" + id);
+        }
+
+        RouteMetrics metrics = MetricsRegistry.shared().get("GET /albums/{id}");
+        assert metrics != null;
+        assert metrics.getRequests() >= 3;
+        assert metrics.getStatusCounts().get(200) >= 2;
+        assert metrics.getStatusCounts().get(404) >= 1;
+        assert metrics.getBytesReceived() > 0;
+    }
+
+    @Test(description = "Repeated requests reuse pooled keep-alive connections")
+    public void testConnectionReuse() {
+        String baseUri = ConfigReader.getJsonPlaceholderBaseUrl();
+        long hitsBefore = ConnectionPools.stats(baseUri).getPoolHits();
+
+        for (int id = 1; id <= 5; id++) {
+            given()
+            .when()
+                .get("/comments/" + id)
+            .then()
+                .statusCode(200);
+        }
+
+        ConnectionPools.Stats stats = ConnectionPools.stats(baseUri);
+        System.out.println("Connection pool: " + stats);
+        assert stats.getPoolHits() > hitsBefore;
+    }
+
     @Test(description = "Extract and validate response data")
     public void testExtractResponseData() {
         Response response = 
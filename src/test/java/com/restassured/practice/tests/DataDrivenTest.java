@@ -2,10 +2,25 @@ package com.restassured.practice.tests;
 
 import com.restassured.practice.models.User;
 import com.restassured.practice.utils.ApiConfig;
+import com.restassured.practice.utils.DataProviders;
+import com.restassured.practice.utils.FixtureStore;
+import com.restassured.practice.utils.JsonUtils;
 import com.restassured.practice.utils.TestDataGenerator;
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
 
@@ -14,11 +29,13 @@ import static org.hamcrest.Matchers.*;
  */
 public class DataDrivenTest {
 
+    private static final int FIXTURE_USERS = 10_000;
+    private static final int GENERATED_USERS = 20;
+    private static FixtureStore fixtureUsers;
+
     @DataProvider(name = "userIds")
-    public Object[][] userIdsProvider() {
-        return new Object[][] {
-            {1}, {2}, {3}, {4}, {5}
-        };
+    public Iterator<Object[]> userIdsProvider() {
+        return DataProviders.of(IntStream.rangeClosed(1, 5).boxed());
     }
 
     @DataProvider(name = "validStatusCodes")
@@ -29,14 +46,45 @@ public class DataDrivenTest {
     }
 
     @DataProvider(name = "endpoints")
-    public Object[][] endpointsProvider() {
-        return new Object[][] {
-            {"/users", 200},
-            {"/posts", 200},
-            {"/comments", 200},
-            {"/albums", 200},
-            {"/todos", 200}
-        };
+    public Iterator<Object[]> endpointsProvider() {
+        return DataProviders.csvResource("data/endpoints.csv",
+                fields -> new Object[] {fields[0], Integer.parseInt(fields[1])});
+    }
+
+    /**
+     * Invocations run in parallel, but TestNG drains the iterator on one thread
+     * before dispatching them, so all rows are generated up front. Sequential
+     * providers are the ones that stay lazy.
+     */
+    @DataProvider(name = "generatedUsers", parallel = true)
+    public Iterator<Object[]> generatedUsersProvider() {
+        return DataProviders.users(GENERATED_USERS);
+    }
+
+    /**
+     * Reads the fixture file record by record; only the first few are used
+     */
+    @DataProvider(name = "ndjsonUsers")
+    public Iterator<Object[]> ndjsonUsersProvider() {
+        return DataProviders.of(JsonUtils.streamNdjson(fixtureUsers().getPath(), User.class).limit(5));
+    }
+
+    /**
+     * Picks records out of an NDJSON fixture by index and by range; only those
+     * records are deserialized
+     */
+    @DataProvider(name = "fixtureUsers")
+    public Object[][] fixtureUsersProvider() {
+        FixtureStore store = fixtureUsers();
+        List<Object[]> rows = new ArrayList<>();
+        for (int index : new int[] {0, store.size() / 2, store.size() - 1}) {
+            rows.add(new Object[] {index, store.get(index, User.class)});
+        }
+        List<User> range = store.range(100, 103, User.class);
+        for (int i = 0; i < range.size(); i++) {
+            rows.add(new Object[] {100 + i, range.get(i)});
+        }
+        return rows.toArray(new Object[0][]);
     }
 
     @Test(dataProvider = "userIds", description = "Test getting users with different IDs")
@@ -87,4 +135,74 @@ public class DataDrivenTest {
             .body("name", equalTo(randomUser.getName()))
             .body("email", equalTo(randomUser.getEmail()));
     }
+
+    @Test(dataProvider = "generatedUsers", description = "Create generated users from a lazy parallel data provider")
+    public void testCreateGeneratedUsers(User user) {
+        given()
+            .spec(ApiConfig.getJsonPlaceholderRequestSpec())
+            .body(user)
+        .when()
+            .post("/users")
+        .then()
+            .spec(ApiConfig.getCreatedResponseSpec())
+            .body("username", equalTo(user.getUsername()));
+    }
+
+    @Test(dataProvider = "ndjsonUsers", description = "Create users read lazily from an NDJSON file")
+    public void testCreateUsersFromNdjson(User user) {
+        given()
+            .spec(ApiConfig.getJsonPlaceholderRequestSpec())
+            .body(user)
+        .when()
+            .post("/users")
+        .then()
+            .spec(ApiConfig.getCreatedResponseSpec())
+            .body("email", equalTo(user.getEmail()));
+    }
+
+    @Test(dataProvider = "fixtureUsers", description = "Create users picked from a memory-mapped fixture file")
+    public void testCreateUsersFromFixtureStore(int index, User user) {
+        // Rows picked by range hold the same record as a lookup by index
+        User expected = fixtureUsers().get(index, User.class);
+        Assert.assertEquals(user, expected);
+
+        given()
+            .spec(ApiConfig.getJsonPlaceholderRequestSpec())
+            .body(user)
+        .when()
+            .post("/users")
+        .then()
+            .spec(ApiConfig.getCreatedResponseSpec())
+            .body("username", equalTo(expected.getUsername()))
+            .body("email", equalTo(expected.getEmail()));
+    }
+
+    @Test(description = "Fixture store indexes every NDJSON record and looks them up by offset")
+    public void testFixtureStoreIndex() throws IOException {
+        FixtureStore store = fixtureUsers();
+        List<String> lines = Files.readAllLines(store.getPath());
+
+        Assert.assertEquals(store.size(), FIXTURE_USERS);
+        Assert.assertEquals(lines.size(), FIXTURE_USERS);
+        for (int index : new int[] {0, 1, FIXTURE_USERS / 2, FIXTURE_USERS - 1}) {
+            Assert.assertEquals(new String(store.raw(index), StandardCharsets.UTF_8).trim(), lines.get(index));
+            Assert.assertEquals(store.get(index, User.class), JsonUtils.fromJson(lines.get(index), User.class));
+        }
+        Assert.assertEquals(store.range(FIXTURE_USERS - 2, FIXTURE_USERS, User.class),
+                Arrays.asList(store.get(FIXTURE_USERS - 2, User.class), store.get(FIXTURE_USERS - 1, User.class)));
+    }
+
+    private static synchronized FixtureStore fixtureUsers() {
+        if (fixtureUsers == null) {
+            try {
+                Path file = Files.createTempFile("fixture-users-", ".ndjson");
+                file.toFile().deleteOnExit();
+                TestDataGenerator.writeUsers(file, FIXTURE_USERS);
+                fixtureUsers = FixtureStore.open(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return fixtureUsers;
+    }
 }
@@ -1,23 +1,41 @@
 package com.restassured.practice.tests;
 
+import com.restassured.practice.metrics.MetricsRegistry;
+import com.restassured.practice.metrics.RouteMetrics;
+import com.restassured.practice.utils.ApiConfig;
+import com.restassured.practice.utils.ApiContext;
+import com.restassured.practice.utils.ConfigReader;
+import com.restassured.practice.utils.FileTransfers;
 import io.restassured.RestAssured;
-import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static com.restassured.practice.utils.ApiContext.given;
 import static io.restassured.RestAssured.*;
 import static org.hamcrest.Matchers.*;
 
 /**
  * File Upload and Download Examples
- * Topics: Multipart form data, File download, Binary data handling
+ * Topics: Multipart form data, Streaming upload, File download, Streaming download to disk, Binary data handling
  */
 public class FileUploadDownloadTest {
 
-    @BeforeClass
+    @BeforeMethod
     public void setup() {
-        RestAssured.baseURI = "https://httpbin.org";
+        ApiContext.use(ConfigReader.getHttpBinBaseUrl());
     }
 
     @Test(description = "File upload - Single file")
@@ -57,6 +75,39 @@ public class FileUploadDownloadTest {
         testFile.delete();
     }
 
+    @Test(description = "Streaming upload - Generated payload without a temp file")
+    public void testStreamingGeneratedUpload() throws IOException {
+        int size = 256 * 1024;
+        String expected;
+        try (InputStream in = FileTransfers.generated(size, 7)) {
+            expected = new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+        }
+
+        given()
+            .multiPart(FileTransfers.generatedPart("file", "synthetic.txt", size, 7))
+            .multiPart("description", "generated")
+        .when()
+            .post("/post")
+        .then()
+            .statusCode(200)
+            .body("files.file", equalTo(expected))
+            .body("form.description", equalTo("generated"));
+    }
+
+    @Test(description = "Streaming upload - Part read from a channel")
+    public void testChannelUpload() {
+        byte[] json = "{\"name\": \"test\", \"value\": 123}".getBytes(StandardCharsets.UTF_8);
+
+        given()
+            .multiPart(FileTransfers.channelPart("file", "data.json", "application/json",
+                    () -> Channels.newChannel(new ByteArrayInputStream(json))))
+        .when()
+            .post("/post")
+        .then()
+            .statusCode(200)
+            .body("files.file", equalTo(new String(json, StandardCharsets.UTF_8)));
+    }
+
     @Test(description = "Download file - Image")
     public void testDownloadImage() {
         byte[] imageBytes = 
@@ -73,6 +124,63 @@ public class FileUploadDownloadTest {
         assert imageBytes.length > 0;
     }
 
+    @Test(description = "Streaming download to disk with on-the-fly checksum")
+    public void testStreamingDownloadToFile() throws IOException, NoSuchAlgorithmException {
+        Path file = Files.createTempFile("download-", ".bin");
+        try {
+            FileTransfers.Download download = FileTransfers.download(
+                    // Not ApiContext.given(): its filters would merge into the streaming spec
+                    RestAssured.given().spec(ApiConfig.getStreamingRequestSpec(ConfigReader.getHttpBinBaseUrl())),
+                    "/bytes/100000", file, "SHA-256");
+
+            System.out.println("Downloaded: " + download);
+            assert download.getBytes() == 100_000;
+            assert Files.size(file) == 100_000;
+            // Checksum computed while streaming matches a re-read of the file
+            assert download.getChecksum().equals(sha256(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(description = "Received bytes are counted for chunked responses without Content-Length")
+    public void testMetricsCountChunkedBody() {
+        RouteMetrics before = MetricsRegistry.shared().get("GET /stream-bytes/{id}");
+        long receivedBefore = before == null ? 0 : before.getBytesReceived();
+
+        byte[] body = given()
+        .when()
+            .get("/stream-bytes/50000")
+        .then()
+            .statusCode(200)
+            .header("Content-Length", nullValue())
+            .extract()
+            .asByteArray();
+
+        assert body.length == 50_000;
+        long received = MetricsRegistry.shared().get("GET /stream-bytes/{id}").getBytesReceived() - receivedBefore;
+        assert received == 50_000 : "counted " + received + " bytes";
+    }
+
+    @Test(description = "Streaming download - Image")
+    public void testStreamingDownloadImage() throws IOException {
+        Path file = Files.createTempFile("image-", ".png");
+        try {
+            FileTransfers.Download download =
+                    FileTransfers.download(ConfigReader.getHttpBinBaseUrl(), "/image/png", file);
+
+            byte[] header = new byte[4];
+            try (InputStream in = Files.newInputStream(file)) {
+                assert in.read(header) == 4;
+            }
+            assert download.getContentType().startsWith("image/png");
+            assert download.getBytes() == Files.size(file);
+            assert header[1] == 'P' && header[2] == 'N' && header[3] == 'G';
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     @Test(description = "Download file - JPEG")
     public void testDownloadJpeg() {
         given()
@@ -108,12 +216,26 @@ public class FileUploadDownloadTest {
             .contentType("application/octet-stream");
     }
 
-    // Helper method to create temporary files
+    private String sha256(Path file) throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    // Helper method to create temporary files, uniquely named so parallel tests don't collide
     private File createTempFile(String fileName, String content) {
         try {
-            File tempFile = new File(System.getProperty("java.io.tmpdir"), fileName);
-            java.nio.file.Files.write(tempFile.toPath(), content.getBytes());
-            return tempFile;
+            int dot = fileName.lastIndexOf('.');
+            Path tempFile = Files.createTempFile(dot > 0 ? fileName.substring(0, dot) + "-" : fileName + "-",
+                    dot > 0 ? fileName.substring(dot) : null);
+            Files.write(tempFile, content.getBytes());
+            return tempFile.toFile();
         } catch (Exception e) {
             throw new RuntimeException("Failed to create temp file", e);
         }
@@ -1,27 +1,35 @@
 package com.restassured.practice.tests;
 
-import io.restassured.RestAssured;
+import com.restassured.practice.filters.ConnectionReleaseFilter;
+import com.restassured.practice.filters.CookieJarFilter;
+import com.restassured.practice.utils.ApiConfig;
+import com.restassured.practice.utils.ApiContext;
+import com.restassured.practice.utils.ConfigReader;
+import com.restassured.practice.utils.ConnectionPools;
+import com.restassured.practice.utils.RequestExecutors;
 import io.restassured.http.Cookie;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
-import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static com.restassured.practice.utils.ApiContext.given;
 import static io.restassured.RestAssured.*;
 import static org.hamcrest.Matchers.*;
 
 /**
  * Headers and Cookies Examples
- * Topics: Custom headers, Cookie handling, Content-Type negotiation
+ * Topics: Custom headers, Cookie handling, Session cookie jars, Content-Type negotiation
  */
 public class HeadersAndCookiesTest {
 
-    @BeforeClass
+    @BeforeMethod
     public void setup() {
-        RestAssured.baseURI = "https://httpbin.org";
+        ApiContext.use(ConfigReader.getHttpBinBaseUrl());
     }
 
     @Test(description = "Send single custom header")
@@ -181,16 +189,193 @@ public class HeadersAndCookiesTest {
 
     @Test(description = "Set and verify cookies")
     public void testSetAndVerifyCookies() {
-        // Set cookies
+        // Set cookies; the cookie comes with the redirect to /cookies, so don't follow it
         given()
+            .redirects().follow(false)
             .queryParam("test-cookie", "test-value")
         .when()
             .get("/cookies/set")
         .then()
-            .statusCode(200)
+            .statusCode(302)
             .cookie("test-cookie", equalTo("test-value"));
     }
 
+    @Test(description = "Session cookie jar captures Set-Cookie and replays it")
+    public void testSessionCookieJar() {
+        CookieJarFilter session = new CookieJarFilter();
+
+        given()
+            .filter(session)
+            .queryParam("session-id", "jar-123")
+        .when()
+            .get("/cookies/set")
+        .then()
+            .statusCode(200);
+
+        given()
+            .filter(session)
+            .cookie("theme", "dark")
+        .when()
+            .get("/cookies")
+        .then()
+            .statusCode(200)
+            .body("cookies.session-id", equalTo("jar-123"))
+            .body("cookies.theme", equalTo("dark"));
+
+        // Max-Age=0 from /cookies/delete removes the cookie from the jar
+        given()
+            .filter(session)
+            .queryParam("session-id", "")
+        .when()
+            .get("/cookies/delete")
+        .then()
+            .statusCode(200);
+
+        assert session.getCookie(ConfigReader.getHttpBinBaseUrl(), "session-id") == null;
+    }
+
+    @Test(description = "Named session shared across threads, per-thread sessions isolated")
+    public void testSharedAndIsolatedSessions() {
+        String baseUri = ConfigReader.getHttpBinBaseUrl();
+        CookieJarFilter shared = CookieJarFilter.named("cookies-test-" + System.nanoTime());
+        ApiContext.use(ApiConfig.getSessionRequestSpec(baseUri, shared));
+
+        given()
+            .queryParam("login", "shared-user")
+        .when()
+            .get("/cookies/set")
+        .then()
+            .statusCode(200);
+
+        List<String> sharedLogins = RequestExecutors.fanOut(4, 4, i ->
+            given()
+            .when()
+                .get("/cookies")
+            .then()
+                .statusCode(200)
+                .extract()
+                .path("cookies.login"));
+        assert sharedLogins.stream().allMatch("shared-user"::equals);
+
+        CookieJarFilter isolated = CookieJarFilter.perThread();
+        ApiContext.use(ApiConfig.getSessionRequestSpec(baseUri, isolated));
+
+        List<String> isolatedLogins = RequestExecutors.fanOut(4, 4, i -> {
+            isolated.clear();
+            given()
+                .queryParam("login", "user-" + i)
+            .when()
+                .get("/cookies/set")
+            .then()
+                .statusCode(200);
+
+            return given()
+                .when()
+                    .get("/cookies")
+                .then()
+                    .statusCode(200)
+                    .extract()
+                    .<String>path("cookies.login");
+        });
+        for (int i = 0; i < isolatedLogins.size(); i++) {
+            assert isolatedLogins.get(i).equals("user-" + i);
+        }
+    }
+
+    @Test(description = "Session cookie jar follows up to the configured number of redirects")
+    public void testCookieJarRedirectLimit() {
+        CookieJarFilter session = new CookieJarFilter();
+
+        // Exactly max(n) redirects still reach the final response
+        given()
+            .filter(session)
+            .redirects().max(1)
+        .when()
+            .get("/redirect/1")
+        .then()
+            .statusCode(200)
+            .body("url", containsString("/get"));
+
+        given()
+            .filter(session)
+            .redirects().max(3)
+        .when()
+            .get("/redirect/3")
+        .then()
+            .statusCode(200)
+            .body("url", containsString("/get"));
+
+        try {
+            given()
+                .filter(session)
+                .redirects().max(2)
+            .when()
+                .get("/redirect/3");
+            throw new AssertionError("Expected more than 2 redirects to fail");
+        } catch (IllegalStateException expected) {
+            assert expected.getMessage().startsWith("More than 2 redirects");
+        }
+    }
+
+    @Test(description = "Redirect hops followed by the cookie jar return their pooled connections")
+    public void testCookieJarRedirectReleasesConnections() {
+        // A base URI of its own gives this test a pool no other test leases from
+        String baseUri = ConfigReader.getHttpBinBaseUrl() + "/";
+        ApiContext.use(ApiConfig.getSessionRequestSpec(baseUri, new CookieJarFilter()));
+
+        // The final /cookies response is never read
+        given()
+            .queryParam("pool-test", "1")
+        .when()
+            .get("/cookies/set")
+        .then()
+            .statusCode(200);
+
+        try {
+            given()
+                .redirects().max(1)
+            .when()
+                .get("/redirect/2");
+            throw new AssertionError("Expected more than 1 redirect to fail");
+        } catch (IllegalStateException expected) {
+            // the last redirect is drained before the exception
+        }
+
+        // What ConnectionReleaseListener does when the test ends
+        ConnectionReleaseFilter.releaseAll();
+        ConnectionPools.Stats stats = ConnectionPools.stats(baseUri);
+        assert stats.getLeased() == 0 : stats;
+        assert stats.getLeases() == 4 : stats;
+    }
+
+    @Test(description = "Session cookie jar follows redirects like HttpClient: 302 only for GET/HEAD, 303 for any method")
+    public void testCookieJarRedirectMethods() {
+        CookieJarFilter session = new CookieJarFilter();
+        String target = ConfigReader.getHttpBinBaseUrl() + "/get";
+
+        // A POST answered with 302 is handed back, not replayed as a GET
+        given()
+            .filter(session)
+            .queryParam("url", target)
+            .queryParam("status_code", 302)
+        .when()
+            .post("/redirect-to")
+        .then()
+            .statusCode(302)
+            .header("Location", equalTo(target));
+
+        // 303 See Other is followed with a GET
+        given()
+            .filter(session)
+            .queryParam("url", target)
+            .queryParam("status_code", 303)
+        .when()
+            .post("/redirect-to")
+        .then()
+            .statusCode(200)
+            .body("url", containsString("/get"));
+    }
+
     @Test(description = "Custom User-Agent header")
     public void testCustomUserAgent() {
         given()
@@ -1,22 +1,30 @@
 package com.restassured.practice.tests;
 
-import io.restassured.RestAssured;
-import io.restassured.module.jsv.JsonSchemaValidator;
-import org.testng.annotations.BeforeClass;
+import com.restassured.practice.utils.ApiContext;
+import com.restassured.practice.utils.ConfigReader;
+import com.restassured.practice.utils.StreamingSchemaValidator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.restassured.practice.utils.ApiContext.given;
+import static com.restassured.practice.utils.SchemaRegistry.matchesJsonSchemaInClasspath;
 import static io.restassured.RestAssured.*;
-import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
 
 /**
  * JSON Schema Validation Examples
  * Topics: Schema validation, Structure verification
+ * Schemas are compiled once and cached by SchemaRegistry, a drop-in for
+ * JsonSchemaValidator.matchesJsonSchemaInClasspath
  */
 public class JsonSchemaValidationTest {
 
-    @BeforeClass
+    @BeforeMethod
     public void setup() {
-        RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
+        ApiContext.use(ConfigReader.getJsonPlaceholderBaseUrl());
     }
 
     @Test(description = "Validate JSON schema for single user")
@@ -52,7 +60,7 @@ public class JsonSchemaValidationTest {
 
     @Test(description = "Validate ReqRes user schema")
     public void testValidateReqResUserSchema() {
-        RestAssured.baseURI = "https://reqres.in/api";
+        ApiContext.use(ConfigReader.getReqResBaseUrl());
 
         given()
             .pathParam("id", 2)
@@ -65,7 +73,7 @@ public class JsonSchemaValidationTest {
 
     @Test(description = "Validate comments schema")
     public void testValidateCommentsSchema() {
-        RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
+        ApiContext.use(ConfigReader.getJsonPlaceholderBaseUrl());
 
         given()
             .queryParam("postId", 1)
@@ -75,4 +83,20 @@ public class JsonSchemaValidationTest {
             .statusCode(200)
             .body(matchesJsonSchemaInClasspath("schemas/comments-schema.json"));
     }
+
+    @Test(description = "Validate posts array element by element while streaming")
+    public void testStreamingValidatePostsSchema() throws IOException {
+        StreamingSchemaValidator.Result result;
+        try (InputStream body = given()
+                .when()
+                    .get("/posts")
+                .then()
+                    .statusCode(200)
+                    .extract().asInputStream()) {
+            result = StreamingSchemaValidator.validateArray("schemas/posts-schema.json", body, 10);
+        }
+
+        Assert.assertTrue(result.isSuccess(), result.toString());
+        Assert.assertEquals(result.getItemCount(), 100);
+    }
 }
@@ -0,0 +1,30 @@
+package com.restassured.practice.tests;
+
+import com.restassured.practice.metrics.LatencyRecorder;
+import com.restassured.practice.metrics.LatencyThresholds;
+import org.testng.Assert;
+import org.testng.annotations.AfterSuite;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Suite-End Latency Check
+ * Topics: Percentile limits per endpoint across the whole run
+ * Checks every endpoint recorded by LatencyFilter against -Dapi.latency.p50/p95/p99
+ * once all tests have run. A violation is reported as a failed configuration
+ * method, so the other test results are kept. Listed last in every suite file.
+ */
+public class LatencyPercentileTest {
+
+    @AfterSuite(alwaysRun = true, description = "Check per-endpoint latency percentiles")
+    public void checkLatencyPercentiles() {
+        LatencyThresholds thresholds = LatencyThresholds.fromConfig();
+        List<String> violations = new ArrayList<>();
+        LatencyRecorder.shared().getAll().forEach((endpoint, histogram) -> thresholds.violations(histogram)
+                .forEach(violation -> violations.add(endpoint + ": " + violation)));
+
+        Assert.assertTrue(violations.isEmpty(),
+                "Latency percentiles exceeded:\n  " + String.join("\n  ", violations) + "\n");
+    }
+}
@@ -0,0 +1,84 @@
+package com.restassured.practice.tests;
+
+import com.restassured.practice.load.LoadProfile;
+import com.restassured.practice.load.LoadResult;
+import com.restassured.practice.load.LoadRunner;
+import com.restassured.practice.utils.ApiContext;
+import com.restassured.practice.utils.ConfigReader;
+import com.restassured.practice.utils.ConnectionPools;
+import com.restassured.practice.utils.RequestExecutors;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static com.restassured.practice.utils.ApiContext.given;
+
+/**
+ * Load Generation Examples
+ * Topics: Reusing test methods as load scenarios, open-model rate, latency percentiles
+ * Scale a run with -Dload.users, -Dload.rps, -Dload.rampup.seconds and -Dload.duration.seconds;
+ * add -Dapi.threads=virtual (or -Pjava21) on Java 21+ to run requests on virtual threads
+ */
+public class LoadGenerationTest {
+
+    @BeforeMethod
+    public void setup() {
+        ApiContext.use(ConfigReader.getJsonPlaceholderBaseUrl());
+    }
+
+    @Test(description = "Run a data-driven GET test as a load scenario")
+    public void testLoadGetUserWithDifferentIds() {
+        DataDrivenTest dataDrivenTest = new DataDrivenTest();
+
+        LoadResult result = new LoadRunner(LoadProfile.fromConfig())
+                .run(iteration -> dataDrivenTest.testGetUserWithDifferentIds((int) (iteration % 5) + 1));
+
+        System.out.println("GET /users/{id} load:\n" + result);
+        Assert.assertEquals(result.getErrors(), 0, String.valueOf(result.getFirstError()));
+        Assert.assertEquals(result.getCompleted(), result.getScheduled());
+    }
+
+    @Test(description = "Run a POST test as a load scenario using this thread's ApiContext")
+    public void testLoadPostWithPOJO() {
+        PostRequestTest postRequestTest = new PostRequestTest();
+
+        LoadResult result = new LoadRunner(LoadProfile.fromConfig())
+                .run(iteration -> postRequestTest.testPostWithPOJO());
+
+        System.out.println("POST /posts load:\n" + result);
+        Assert.assertEquals(result.getErrors(), 0, String.valueOf(result.getFirstError()));
+        Assert.assertTrue(result.getLatencyMillis(50) <= result.getLatencyMillis(99));
+    }
+
+    @Test(description = "Fan out concurrent requests on virtual or platform threads")
+    public void testConcurrentFanOut() {
+        // Full fan-out only against the local stub; a handful of requests are enough to exercise the public API
+        boolean local = ConfigReader.isLocalTarget();
+        int requests = local ? 200 : 10;
+        int concurrency = local ? 50 : 5;
+
+        List<Integer> ids = RequestExecutors.fanOut(requests, concurrency, index ->
+            given()
+                .pathParam("id", index % 100 + 1)
+            .when()
+                .get("/posts/{id}")
+            .then()
+                .statusCode(200)
+                .extract()
+                .path("id"));
+
+        Assert.assertEquals(ids.size(), requests);
+        Assert.assertEquals((int) ids.get(requests - 1), (requests - 1) % 100 + 1);
+        // The pool was grown so that every in-flight request had a connection
+        Assert.assertTrue(ConnectionPools.stats(ConfigReader.getJsonPlaceholderBaseUrl()).getMax() >= concurrency);
+    }
+
+    @Test(description = "Fan-out rejects a negative count or a concurrency below 1")
+    public void testFanOutRejectsInvalidArguments() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> RequestExecutors.fanOut(-1, 4, i -> i));
+        Assert.assertThrows(IllegalArgumentException.class, () -> RequestExecutors.fanOut(4, 0, i -> i));
+        Assert.assertEquals(RequestExecutors.fanOut(0, 4, i -> i).size(), 0);
+    }
+}
@@ -1,12 +1,14 @@
 package com.restassured.practice.tests;
 
-import io.restassured.RestAssured;
-import org.testng.annotations.BeforeClass;
+import com.restassured.practice.utils.ApiContext;
+import com.restassured.practice.utils.ConfigReader;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.restassured.practice.utils.ApiContext.given;
 import static io.restassured.RestAssured.*;
 import static org.hamcrest.Matchers.*;
 
@@ -16,9 +18,9 @@ import static org.hamcrest.Matchers.*;
  */
 public class PathParametersTest {
 
-    @BeforeClass
+    @BeforeMethod
     public void setup() {
-        RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
+        ApiContext.use(ConfigReader.getJsonPlaceholderBaseUrl());
     }
 
     @Test(description = "Single path parameter")
@@ -88,7 +90,7 @@ public class PathParametersTest {
 
     @Test(description = "Path parameter with ReqRes API")
     public void testPathParamReqRes() {
-        RestAssured.baseURI = "https://reqres.in/api";
+        ApiContext.use(ConfigReader.getReqResBaseUrl());
 
         given()
             .pathParam("id", 2)
@@ -140,7 +142,7 @@ public class PathParametersTest {
 
     @Test(description = "Path param with REST Countries API")
     public void testPathParamRestCountries() {
-        RestAssured.baseURI = "https://restcountries.com/v3.1";
+        ApiContext.use(ConfigReader.getRestCountriesBaseUrl());
 
         given()
             .pathParam("name", "france")
@@ -1,14 +1,16 @@
 package com.restassured.practice.tests;
 
 import com.restassured.practice.models.Post;
-import io.restassured.RestAssured;
+import com.restassured.practice.utils.ApiContext;
+import com.restassured.practice.utils.ConfigReader;
 import io.restassured.http.ContentType;
-import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.restassured.practice.utils.ApiContext.given;
 import static io.restassured.RestAssured.*;
 import static org.hamcrest.Matchers.*;
 
@@ -18,9 +20,9 @@ import static org.hamcrest.Matchers.*;
  */
 public class PostRequestTest {
 
-    @BeforeClass
+    @BeforeMethod
     public void setup() {
-        RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
+        ApiContext.use(ConfigReader.getJsonPlaceholderBaseUrl());
     }
 
     @Test(description = "POST request with String body")
@@ -87,7 +89,7 @@ public class PostRequestTest {
 
     @Test(description = "POST to ReqRes API - Create user")
     public void testCreateUserReqRes() {
-        RestAssured.baseURI = "https://reqres.in/api";
+        ApiContext.use(ConfigReader.getReqResBaseUrl());
 
         Map<String, String> user = new HashMap<>();
         user.put("name", "John Doe");
@@ -110,7 +112,7 @@ public class PostRequestTest {
 
     @Test(description = "POST with form parameters")
     public void testPostWithFormParams() {
-        RestAssured.baseURI = "https://httpbin.org";
+        ApiContext.use(ConfigReader.getHttpBinBaseUrl());
 
         given()
             .contentType("application/x-www-form-urlencoded")
@@ -128,7 +130,7 @@ public class PostRequestTest {
 
     @Test(description = "POST with multipart form data")
     public void testPostWithMultipartFormData() {
-        RestAssured.baseURI = "https://httpbin.org";
+        ApiContext.use(ConfigReader.getHttpBinBaseUrl());
 
         given()
             .multiPart("name", "John Smith")
@@ -143,7 +145,7 @@ public class PostRequestTest {
 
     @Test(description = "Extract response after POST")
     public void testExtractResponseAfterPost() {
-        RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
+        ApiContext.use(ConfigReader.getJsonPlaceholderBaseUrl());
 
         Post post = Post.builder()
                 .title("Extract Test")
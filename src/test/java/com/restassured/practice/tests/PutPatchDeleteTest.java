@@ -1,14 +1,16 @@
 package com.restassured.practice.tests;
 
 import com.restassured.practice.models.Post;
-import io.restassured.RestAssured;
+import com.restassured.practice.utils.ApiContext;
+import com.restassured.practice.utils.ConfigReader;
 import io.restassured.http.ContentType;
-import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.restassured.practice.utils.ApiContext.given;
 import static io.restassured.RestAssured.*;
 import static org.hamcrest.Matchers.*;
 
@@ -18,9 +20,9 @@ import static org.hamcrest.Matchers.*;
  */
 public class PutPatchDeleteTest {
 
-    @BeforeClass
+    @BeforeMethod
     public void setup() {
-        RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
+        ApiContext.use(ConfigReader.getJsonPlaceholderBaseUrl());
     }
 
     @Test(description = "PUT request - Complete update")
@@ -134,7 +136,7 @@ public class PutPatchDeleteTest {
 
     @Test(description = "PUT request with ReqRes API")
     public void testPutReqRes() {
-        RestAssured.baseURI = "https://reqres.in/api";
+        ApiContext.use(ConfigReader.getReqResBaseUrl());
 
         Map<String, String> updateUser = new HashMap<>();
         updateUser.put("name", "Updated Name");
@@ -155,7 +157,7 @@ public class PutPatchDeleteTest {
 
     @Test(description = "PATCH request with ReqRes API")
     public void testPatchReqRes() {
-        RestAssured.baseURI = "https://reqres.in/api";
+        ApiContext.use(ConfigReader.getReqResBaseUrl());
 
         Map<String, String> patchData = new HashMap<>();
         patchData.put("job", "Automation Architect");
@@ -1,12 +1,14 @@
 package com.restassured.practice.tests;
 
-import io.restassured.RestAssured;
-import org.testng.annotations.BeforeClass;
+import com.restassured.practice.utils.ApiContext;
+import com.restassured.practice.utils.ConfigReader;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.restassured.practice.utils.ApiContext.given;
 import static io.restassured.RestAssured.*;
 import static org.hamcrest.Matchers.*;
 
@@ -16,9 +18,9 @@ import static org.hamcrest.Matchers.*;
  */
 public class QueryParametersTest {
 
-    @BeforeClass
+    @BeforeMethod
     public void setup() {
-        RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
+        ApiContext.use(ConfigReader.getJsonPlaceholderBaseUrl());
     }
 
     @Test(description = "Single query parameter")
@@ -106,7 +108,7 @@ public class QueryParametersTest {
 
     @Test(description = "Search with query parameters - HTTPBin")
     public void testQueryParamsHttpBin() {
-        RestAssured.baseURI = "https://httpbin.org";
+        ApiContext.use(ConfigReader.getHttpBinBaseUrl());
 
         given()
             .queryParam("search", "rest assured")
@@ -125,7 +127,7 @@ public class QueryParametersTest {
 
     @Test(description = "Query parameter with special characters")
     public void testQueryParamWithSpecialChars() {
-        RestAssured.baseURI = "https://httpbin.org";
+        ApiContext.use(ConfigReader.getHttpBinBaseUrl());
 
         given()
             .queryParam("name", "John Doe")
@@ -140,7 +142,7 @@ public class QueryParametersTest {
 
     @Test(description = "Multiple values for same parameter")
     public void testMultipleValuesForSameParam() {
-        RestAssured.baseURI = "https://httpbin.org";
+        ApiContext.use(ConfigReader.getHttpBinBaseUrl());
 
         given()
             .queryParam("id", 1, 2, 3)
@@ -155,7 +157,7 @@ public class QueryParametersTest {
 
     @Test(description = "Query params with ReqRes API")
     public void testQueryParamsReqRes() {
-        RestAssured.baseURI = "https://reqres.in/api";
+        ApiContext.use(ConfigReader.getReqResBaseUrl());
 
         given()
             .queryParam("page", 2)
@@ -3,11 +3,22 @@ package com.restassured.practice.tests;
 import com.restassured.practice.models.Post;
 import com.restassured.practice.models.ReqResUser;
 import com.restassured.practice.models.User;
-import io.restassured.RestAssured;
+import com.restassured.practice.utils.ApiContext;
+import com.restassured.practice.utils.ConfigReader;
+import com.restassured.practice.utils.JsonArrayIterator;
+import com.restassured.practice.utils.JsonUtils;
+import com.restassured.practice.utils.TestDataGenerator;
 import io.restassured.http.ContentType;
-import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.restassured.practice.utils.ApiContext.given;
 import static io.restassured.RestAssured.*;
 import static org.hamcrest.Matchers.*;
 
@@ -17,9 +28,9 @@ import static org.hamcrest.Matchers.*;
  */
 public class SerializationDeserializationTest {
 
-    @BeforeClass
+    @BeforeMethod
     public void setup() {
-        RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
+        ApiContext.use(ConfigReader.getJsonPlaceholderBaseUrl());
     }
 
     @Test(description = "Serialization - POJO to JSON (POST)")
@@ -87,9 +98,61 @@ public class SerializationDeserializationTest {
         assert posts.length > 0 && posts.length <= 5;
     }
 
+    @Test(description = "Streaming deserialization - Array processed element by element")
+    public void testStreamArrayOfPosts() throws IOException {
+        InputStream body =
+            given()
+            .when()
+                .get("/posts")
+            .then()
+                .statusCode(200)
+                .extract()
+                .asInputStream();
+
+        // Only one Post is held in memory at a time, however long the array is
+        try (JsonArrayIterator<Post> posts = JsonUtils.iterateArray(body, Post.class)) {
+            while (posts.hasNext()) {
+                Post post = posts.next();
+                assert post.getId() != null;
+                assert post.getUserId() > 0;
+            }
+
+            long count = posts.getIndex() + 1;
+            System.out.println("Streamed posts: " + count);
+            assert count == 100;
+        }
+    }
+
+    @Test(description = "Bulk serialization - Generated users written as NDJSON")
+    public void testBulkGeneratedUsersAsNdjson() throws IOException {
+        Path file = Files.createTempFile("users-", ".ndjson");
+        try {
+            long written = TestDataGenerator.writeUsers(file, 10_000);
+            List<String> lines = Files.readAllLines(file);
+
+            assert written == 10_000;
+            assert lines.size() == 10_000;
+            assert TestDataGenerator.users(10_000).parallel().map(User::getUsername).distinct().count() == 10_000;
+
+            User user = JsonUtils.fromJson(lines.get(0), User.class);
+
+            given()
+                .contentType(ContentType.JSON)
+                .body(user)
+            .when()
+                .post("/users")
+            .then()
+                .statusCode(201)
+                .body("username", equalTo(user.getUsername()))
+                .body("email", equalTo(user.getEmail()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     @Test(description = "Serialization and Deserialization with ReqRes")
     public void testSerDeserWithReqRes() {
-        RestAssured.baseURI = "https://reqres.in/api";
+        ApiContext.use(ConfigReader.getReqResBaseUrl());
 
         // Create user (Serialization)
         User newUser = User.builder()
@@ -120,7 +183,7 @@ public class SerializationDeserializationTest {
 
     @Test(description = "Deserialize ReqRes user data")
     public void testDeserializeReqResUser() {
-        RestAssured.baseURI = "https://reqres.in/api";
+        ApiContext.use(ConfigReader.getReqResBaseUrl());
 
         ReqResUser user = 
             given()
@@ -130,7 +193,8 @@ public class SerializationDeserializationTest {
             .then()
                 .statusCode(200)
                 .extract()
-                .path("data");
+                .jsonPath()
+                .getObject("data", ReqResUser.class);
 
         System.out.println("User Details:");
         System.out.println("ID: " + user.getId());
@@ -145,7 +209,7 @@ public class SerializationDeserializationTest {
 
     @Test(description = "Update using Serialization (PUT)")
     public void testUpdateUsingSerialization() {
-        RestAssured.baseURI = "https://reqres.in/api";
+        ApiContext.use(ConfigReader.getReqResBaseUrl());
 
         User updateUser = User.builder()
                 .name("Updated Name")
@@ -173,7 +237,7 @@ public class SerializationDeserializationTest {
 
     @Test(description = "Complex nested object deserialization")
     public void testComplexObjectDeserialization() {
-        RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
+        ApiContext.use(ConfigReader.getJsonPlaceholderBaseUrl());
 
         // Using JsonPath to navigate nested structure
         String city = 
@@ -191,7 +255,7 @@ public class SerializationDeserializationTest {
 
     @Test(description = "Partial deserialization with JsonPath")
     public void testPartialDeserialization() {
-        RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
+        ApiContext.use(ConfigReader.getJsonPlaceholderBaseUrl());
 
         Post post = 
             given()